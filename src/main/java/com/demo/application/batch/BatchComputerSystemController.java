@@ -1,10 +1,12 @@
 package com.demo.application.batch;
 
 import com.demo.shared.config.BatchProperties;
+import com.demo.domain.batch.BatchComputerSystemPatchRequest;
 import com.demo.domain.batch.BatchComputerSystemRequest;
 import com.demo.domain.batch.BatchComputerSystemResponse;
+import com.demo.domain.batch.BatchImportChunkResult;
+import com.demo.domain.batch.BatchImportSummary;
 import com.demo.domain.computersystem.ComputerSystemDto;
-import com.demo.application.computersystem.ComputerSystemService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -12,16 +14,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -58,7 +67,7 @@ import java.util.stream.Collectors;
  * - Bulk decommission: Delete 25 retired servers or delete none
  *
  * @see BatchComputerSystemRequest for validation structure
- * @see ComputerSystemService for transactional processing
+ * @see BatchComputerSystemService for set-based transactional processing
  * @see GlobalExceptionHandler for error handling
  */
 @Slf4j
@@ -69,8 +78,10 @@ import java.util.stream.Collectors;
      description = "Bulk create, update, and delete operations with all-or-nothing guarantees")
 public class BatchComputerSystemController {
 
-    private final ComputerSystemService computerSystemService;
+    private final BatchComputerSystemService batchComputerSystemService;
+    private final BatchImportService batchImportService;
     private final BatchProperties batchProperties;
+    private final ObjectMapper objectMapper;
 
     /**
      * Batch create multiple computer systems.
@@ -81,8 +92,12 @@ public class BatchComputerSystemController {
      *    - Returns HTTP 400 if ANY item invalid
      *    - No database changes if validation fails
      *
-     * 2. PROCESSING (@Transactional):
-     *    - Creates all items in single database transaction
+     * 2. PRE-PROCESSING (BatchComputerSystemService):
+     *    - Duplicate keys within the batch rejected in memory
+     *    - Existing hostnames/MACs/IPs and missing users resolved with IN queries
+     *
+     * 3. PROCESSING (@Transactional):
+     *    - Creates all items in single database transaction, flushed in chunks
      *    - If ANY item creation fails (e.g., duplicate), transaction rolls back
      *    - Either ALL items created or NONE
      *
@@ -177,11 +192,10 @@ public class BatchComputerSystemController {
 
         try {
             // All items passed Spring validation (@Valid on request.items)
-            // Now process in transaction - if any fails, entire transaction rolls back
+            // Keys and users are checked set-based before any insert; if any fails,
+            // entire transaction rolls back
 
-            List<ComputerSystemDto> createdItems = request.getItems().stream()
-                    .map(computerSystemService::createComputerSystem)
-                    .collect(Collectors.toList());
+            List<ComputerSystemDto> createdItems = batchComputerSystemService.createAll(request.getItems());
 
             log.info("Batch create completed successfully: {} items created", batchSize);
 
@@ -212,8 +226,12 @@ public class BatchComputerSystemController {
      *    - Validates ALL items in list
      *    - Returns HTTP 400 if ANY item invalid
      *
-     * 2. PROCESSING (@Transactional):
-     *    - Updates all items in single transaction
+     * 2. PRE-PROCESSING (BatchComputerSystemService):
+     *    - All targets loaded in one query per chunk (404 if any missing)
+     *    - Only changed hostnames/MACs/IPs and reassigned users are checked
+     *
+     * 3. PROCESSING (@Transactional):
+     *    - Updates all items in single transaction with one batched flush
      *    - If ANY item update fails, transaction rolls back
      *    - Either ALL items updated or NONE
      *
@@ -244,7 +262,8 @@ public class BatchComputerSystemController {
     @Operation(
         summary = "Batch update computer systems",
         description = "Update multiple computer systems in a single transaction. Validates all items " +
-                     "before updating any. If validation fails OR any update fails, NO items are updated."
+                     "before updating any. If validation fails OR any update fails, NO items are updated. " +
+                     "Items may swap hostnames, MAC or IP addresses with each other."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "All items updated successfully"),
@@ -267,11 +286,10 @@ public class BatchComputerSystemController {
 
         try {
             // All items passed Spring validation
-            // Process in transaction
+            // Targets, changed keys and reassigned users are resolved set-based,
+            // then all changes are flushed together in one transaction
 
-            List<ComputerSystemDto> updatedItems = request.getItems().stream()
-                    .map(item -> computerSystemService.updateComputerSystem(item.getId(), item))
-                    .collect(Collectors.toList());
+            List<ComputerSystemDto> updatedItems = batchComputerSystemService.updateAll(request.getItems());
 
             log.info("Batch update completed successfully: {} items updated", batchSize);
 
@@ -294,6 +312,131 @@ public class BatchComputerSystemController {
         }
     }
 
+    /**
+     * Batch patch: set the same fields on many computer systems.
+     *
+     * Only supplied fields are changed. The patch runs as bulk
+     * UPDATE ... WHERE id IN (...) statements without loading entities,
+     * so it accepts far more IDs than the item-based operations
+     * (limit: app.batch.max-patch-ids).
+     *
+     * ALL-OR-NOTHING FLOW:
+     * 1. VALIDATION (Spring @Valid): ids present, at least one field supplied
+     * 2. PRE-PATCH VERIFICATION: all IDs (and the new user, if any) must exist
+     * 3. PROCESSING (@Transactional): all rows patched or none
+     *
+     * @param request IDs and the field values to apply
+     * @return 200 OK with BatchComputerSystemResponse (counts only, no items)
+     * @throws ResourceNotFoundException if any ID or the user is not found (HTTP 404, NO items patched)
+     *
+     * EXAMPLE REQUEST:
+     * PATCH /api/v1/computer-systems/batch/patch
+     * {
+     *   "ids": [1, 2, 3],
+     *   "department": "DevOps"
+     * }
+     */
+    @PatchMapping("/patch")
+    @Operation(
+        summary = "Batch patch computer systems",
+        description = "Set the supplied fields on every listed computer system in a single transaction. " +
+                     "Hostname, MAC and IP address cannot be patched. If any ID is not found, NO items are patched."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "All items patched successfully"),
+        @ApiResponse(responseCode = "400", description = "Validation failed or batch size exceeded"),
+        @ApiResponse(responseCode = "404", description = "One or more items not found - no items patched")
+    })
+    @Transactional  // Ensures all-or-nothing: all patched or none patched
+    public ResponseEntity<Object> batchPatch(
+            @Valid @RequestBody BatchComputerSystemPatchRequest request,
+            HttpServletRequest httpRequest) {
+
+        int batchSize = request.getIds().size();
+        log.info("Batch patch started: {} ids", batchSize);
+
+        if (batchSize > batchProperties.getMaxPatchIds()) {
+            ProblemDetail problem = batchSizeExceeded(batchSize, batchProperties.getMaxPatchIds(),
+                    "app.batch.max-patch-ids", httpRequest.getRequestURI());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problem);
+        }
+
+        try {
+            int patched = batchComputerSystemService.patchAll(request);
+
+            log.info("Batch patch completed successfully: {} items patched", patched);
+
+            BatchComputerSystemResponse response = BatchComputerSystemResponse.builder()
+                    .items(List.of())
+                    .totalItems(batchSize)
+                    .successCount(patched)
+                    .failureCount(0)
+                    .status("SUCCESS")
+                    .build();
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception ex) {
+            // Transaction automatically rolled back by Spring @Transactional
+            log.error("Batch patch failed - transaction rolled back, {} items NOT patched", batchSize, ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Streaming import of computer systems from NDJSON.
+     *
+     * Intended for large scheduled imports (hundreds of thousands of records)
+     * that exceed app.batch.max-items. The request body is parsed one line at a
+     * time and never held in memory as a whole.
+     *
+     * NOT ALL-OR-NOTHING: records are committed in chunks of
+     * app.batch.import-chunk-size, each in its own transaction. Invalid lines
+     * are skipped and reported; a chunk that hits a duplicate or unknown user
+     * is rolled back on its own while later chunks continue.
+     *
+     * The response is NDJSON as well: one BatchImportChunkResult line per chunk,
+     * flushed as each chunk completes, followed by a BatchImportSummary line.
+     *
+     * EXAMPLE REQUEST:
+     * POST /api/v1/computer-systems/batch/import
+     * Content-Type: application/x-ndjson
+     * {"hostname":"SERVER-001","manufacturer":"Dell",...}
+     * {"hostname":"SERVER-002","manufacturer":"Dell",...}
+     *
+     * EXAMPLE RESPONSE (HTTP 200):
+     * {"chunk":1,"firstRecord":1,"lastRecord":2,"created":2,"failed":0,"status":"SUCCESS","errors":[]}
+     * {"summary":true,"totalRecords":2,"created":2,"failed":0,"chunks":1,"status":"SUCCESS",...}
+     *
+     * @see BatchImportService for chunking and failure handling
+     */
+    @PostMapping(value = "/import",
+                 consumes = MediaType.APPLICATION_NDJSON_VALUE,
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Streaming NDJSON import of computer systems",
+        description = "Import any number of computer systems from newline-delimited JSON. Records are " +
+                     "validated line by line and committed in chunks; results are streamed back per chunk."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import processed; see per-chunk and summary lines for outcome")
+    })
+    public void batchImport(HttpServletRequest httpRequest, HttpServletResponse httpResponse) throws IOException {
+        log.info("Batch import started");
+
+        httpResponse.setStatus(HttpStatus.OK.value());
+        httpResponse.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        httpResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = httpResponse.getOutputStream();
+
+        BatchImportSummary summary = batchImportService.importNdjson(httpRequest.getInputStream(),
+                (BatchImportChunkResult chunk) -> writeLine(out, chunk));
+        writeLine(out, summary);
+
+        log.info("Batch import finished: status {}, {} created, {} failed",
+                summary.getStatus(), summary.getCreated(), summary.getFailed());
+    }
+
     /**
      * Batch delete multiple computer systems by ID.
      *
@@ -308,8 +451,8 @@ public class BatchComputerSystemController {
      *    - Either ALL deleted or NONE deleted
      *
      * TWO-PHASE SAFETY:
-     * Phase 1: Verify all IDs exist (ResourceNotFoundException if any not found)
-     * Phase 2: Delete all in transaction (rollback if any fails)
+     * Phase 1: Verify all IDs exist with set-based lookups (ResourceNotFoundException if any not found)
+     * Phase 2: Bulk delete all in transaction (rollback if any fails)
      * This prevents "successfully deleted 3 items, but couldn't delete item 4"
      *
      * @param request BatchComputerSystemRequest with items to delete
@@ -363,19 +506,11 @@ public class BatchComputerSystemController {
                     .collect(Collectors.toList());
 
             // TWO-PHASE APPROACH:
-            // Phase 1: Verify all items exist BEFORE deleting any
+            // Phase 1: One IN query per chunk verifies all items exist BEFORE deleting any
             // This prevents "deleted 3 of 5" scenario
-            log.debug("Verifying {} items exist before deletion", ids.size());
-            for (Long id : ids) {
-                // Throws ResourceNotFoundException if not found
-                computerSystemService.getComputerSystemById(id);
-            }
-
-            log.debug("All {} items verified - proceeding with deletion", ids.size());
-
-            // Phase 2: Delete all in transaction
+            // Phase 2: One bulk DELETE per chunk in the same transaction
             // If any delete fails, transaction rolls back and no items are deleted
-            ids.forEach(computerSystemService::deleteComputerSystem);
+            batchComputerSystemService.deleteAll(ids);
 
             log.info("Batch delete completed successfully: {} items deleted", ids.size());
 
@@ -401,24 +536,42 @@ public class BatchComputerSystemController {
      */
     private ProblemDetail validateBatchSize(int batchSize, String uri) {
         if (batchSize > batchProperties.getMaxItems()) {
-            String message = String.format(
-                    "Batch size (%d) exceeds maximum (%d) - reduce batch size or increase app.batch.max-items configuration",
-                    batchSize,
-                    batchProperties.getMaxItems()
-            );
-            
-            log.warn("Batch size validation failed: {}", message);
-            
-            ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
-            problem.setTitle("Batch Size Exceeds Maximum");
-            problem.setDetail(message);
-            problem.setInstance(URI.create(uri));
-            problem.setProperty("timestamp", Instant.now());
-            problem.setProperty("batchSize", batchSize);
-            problem.setProperty("maxItems", batchProperties.getMaxItems());
-            
-            return problem;
+            return batchSizeExceeded(batchSize, batchProperties.getMaxItems(), "app.batch.max-items", uri);
         }
         return null;
     }
+
+    /**
+     * Writes one NDJSON line and flushes it so the client sees progress immediately.
+     */
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private ProblemDetail batchSizeExceeded(int batchSize, int maxItems, String property, String uri) {
+        String message = String.format(
+                "Batch size (%d) exceeds maximum (%d) - reduce batch size or increase %s configuration",
+                batchSize,
+                maxItems,
+                property
+        );
+
+        log.warn("Batch size validation failed: {}", message);
+
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problem.setTitle("Batch Size Exceeds Maximum");
+        problem.setDetail(message);
+        problem.setInstance(URI.create(uri));
+        problem.setProperty("timestamp", Instant.now());
+        problem.setProperty("batchSize", batchSize);
+        problem.setProperty("maxItems", maxItems);
+
+        return problem;
+    }
 }
@@ -0,0 +1,572 @@
+package com.demo.application.batch;
+
+import com.demo.application.computersystem.ComputerSystemCache;
+import com.demo.application.computersystem.ComputerSystemRepository;
+import com.demo.application.user.UserRepository;
+import com.demo.domain.batch.BatchComputerSystemPatchRequest;
+import com.demo.domain.computersystem.ComputerSystem;
+import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.domain.computersystem.ComputerSystemKeys;
+import com.demo.domain.computersystem.ComputerSystemMapper;
+import com.demo.domain.user.User;
+import com.demo.shared.config.BatchProperties;
+import com.demo.shared.exception.DuplicateResourceException;
+import com.demo.shared.exception.ResourceNotFoundException;
+import com.demo.shared.security.CurrentUserService;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Set-based bulk write paths for computer systems.
+ *
+ * The single-item methods in ComputerSystemService cost several round trips
+ * per row. The bulk paths here validate the whole batch up front with a
+ * bounded number of IN queries, then write in chunks:
+ *
+ * 1. Intra-batch duplicates detected in memory (no database access)
+ * 2. Hostname/MAC/IP collisions resolved with one IN query per chunk
+ * 3. Referenced users resolved with one IN query per chunk
+ * 4. Entities persisted chunk by chunk, flushed, then detached
+ *
+ * Updates load all targets (with their users) up front and only check keys
+ * that actually change. Keys may move between systems of the same batch,
+ * e.g. two systems swapping hostnames. Deletes and patches never load entities: one IN
+ * query per chunk finds missing IDs, then one bulk statement per chunk
+ * applies the change.
+ *
+ * All methods run in a single transaction, so the all-or-nothing guarantee
+ * of the batch endpoints is preserved. The whole batch goes through the
+ * databaseQuery circuit breaker once instead of once per item.
+ *
+ * Updated, patched and deleted IDs are evicted from ComputerSystemCache,
+ * now and after commit. Creates need no eviction since misses are not cached.
+ *
+ * Created systems record the authenticated user as createdBy, like
+ * ComputerSystemService.createComputerSystem.
+ */
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class BatchComputerSystemService {
+
+    private static final String NOT_FOUND = " not found";
+    private final ComputerSystemRepository repository;
+    private final UserRepository userRepository;
+    private final ComputerSystemMapper mapper;
+    private final BatchProperties batchProperties;
+    private final EntityManager entityManager;
+    private final ComputerSystemCache computerSystemCache;
+    private final CurrentUserService currentUserService;
+
+    /**
+     * Creates all computer systems in the batch or none of them.
+     *
+     * @param items Validated items to create
+     * @return Created computer systems, in request order
+     * @throws DuplicateResourceException If a key repeats within the batch or already exists
+     * @throws ResourceNotFoundException If a referenced user does not exist
+     */
+    @CircuitBreaker(name = "databaseQuery", fallbackMethod = "createAllFallback")
+    public List<ComputerSystemDto> createAll(List<ComputerSystemDto> items) {
+        assertNoDuplicatesWithinBatch(items);
+        assertNoExistingKeys(items, Collections.emptyMap());
+        assertUsersExist(items.stream().map(ComputerSystemDto::getUserId).toList());
+
+        // Resolved once; a reference per chunk survives the persistence context being cleared
+        Long creatorId = currentUserService.getCurrentUser().map(User::getId).orElse(null);
+
+        List<ComputerSystemDto> created = new ArrayList<>(items.size());
+        for (List<ComputerSystemDto> chunk : chunks(items)) {
+            User creator = creatorId == null ? null : userRepository.getReferenceById(creatorId);
+            List<ComputerSystem> entities = new ArrayList<>(chunk.size());
+            for (ComputerSystemDto dto : chunk) {
+                ComputerSystem entity = mapper.toEntity(dto);
+                entity.setSystemUser(userRepository.getReferenceById(dto.getUserId()));
+                entity.setCreatedBy(creator);
+                entities.add(entity);
+            }
+
+            try {
+                repository.saveAll(entities);
+                repository.flush();
+            } catch (DataIntegrityViolationException ex) {
+                // Only reachable when a concurrent writer claims a key after the pre-checks
+                throw new DuplicateResourceException(
+                        "Batch conflicts with a computer system created concurrently - no items created", ex);
+            }
+
+            entities.forEach(entity -> created.add(mapper.toDto(entity)));
+            // Detach the flushed chunk so memory stays flat for large batches
+            entityManager.clear();
+        }
+
+        log.debug("Bulk created {} computer systems in {} chunk(s)",
+                created.size(), chunkCount(items.size()));
+        return created;
+    }
+
+    /**
+     * Fallback for createAll when database circuit breaker is OPEN.
+     */
+    public List<ComputerSystemDto> createAllFallback(List<ComputerSystemDto> items,
+                                                     CallNotPermittedException ex) {
+        log.error("Database circuit breaker OPEN: Cannot bulk create {} computer systems - database unavailable",
+                items.size());
+        throw new RuntimeException("Database service temporarily unavailable. Please try again later.");
+    }
+
+    /**
+     * Updates all computer systems in the batch or none of them.
+     *
+     * Targets are loaded in one query per chunk. Only keys that differ from
+     * the stored values are checked for collisions, and only reassigned users
+     * are looked up. Changes are written in a single flush,
+     * which Hibernate groups into JDBC batches.
+     *
+     * Items that carry a version must match the stored version, and every
+     * UPDATE is guarded by the version that was read, so concurrent changes
+     * fail the whole batch instead of being overwritten.
+     *
+     * A key may be taken over from another system updated in the same batch
+     * (e.g. swapped hostnames). Such keys are parked on placeholders in a
+     * first flush, so those systems are written twice and their version
+     * advances by two.
+     *
+     * @param items Validated items to update; each must carry its ID
+     * @return Updated computer systems, in request order
+     * @throws ResourceNotFoundException If any ID or referenced user does not exist
+     * @throws DuplicateResourceException If a key repeats within the batch or belongs to another system
+     * @throws ObjectOptimisticLockingFailureException If any system was changed concurrently
+     */
+    @CircuitBreaker(name = "databaseQuery", fallbackMethod = "updateAllFallback")
+    public List<ComputerSystemDto> updateAll(List<ComputerSystemDto> items) {
+        Map<Long, ComputerSystem> targets = loadTargets(items);
+        assertVersionsMatch(items, targets);
+        assertNoDuplicatesWithinBatch(items);
+        assertNoExistingKeys(items, targets);
+        assertUsersExist(items.stream()
+                .filter(dto -> userChanged(dto, targets.get(dto.getId())))
+                .map(ComputerSystemDto::getUserId)
+                .toList());
+
+        parkMovedKeys(items, targets);
+
+        List<ComputerSystem> entities = new ArrayList<>(items.size());
+        for (ComputerSystemDto dto : items) {
+            ComputerSystem entity = targets.get(dto.getId());
+            boolean userChanged = userChanged(dto, entity);
+            mapper.updateEntityFromDto(dto, entity);
+            if (userChanged) {
+                entity.setSystemUser(userRepository.getReferenceById(dto.getUserId()));
+            }
+            entities.add(entity);
+        }
+
+        flushUpdates();
+        computerSystemCache.evict(targets.keySet());
+
+        log.debug("Bulk updated {} computer systems", entities.size());
+        return entities.stream().map(mapper::toDto).toList();
+    }
+
+    /**
+     * Fallback for updateAll when database circuit breaker is OPEN.
+     */
+    public List<ComputerSystemDto> updateAllFallback(List<ComputerSystemDto> items,
+                                                     CallNotPermittedException ex) {
+        log.error("Database circuit breaker OPEN: Cannot bulk update {} computer systems - database unavailable",
+                items.size());
+        throw new RuntimeException("Database service temporarily unavailable. Please try again later.");
+    }
+
+    /**
+     * Applies the supplied fields to every listed computer system or to none.
+     *
+     * Runs one bulk UPDATE ... WHERE id IN (...) per chunk without loading the
+     * entities. Bulk statements bypass JPA auditing and versioning, so
+     * updatedAt is set and version incremented here.
+     *
+     * @param patch Validated patch naming the IDs and the fields to set
+     * @return Number of computer systems updated
+     * @throws ResourceNotFoundException If any ID or the referenced user does not exist
+     */
+    @CircuitBreaker(name = "databaseQuery", fallbackMethod = "patchAllFallback")
+    public int patchAll(BatchComputerSystemPatchRequest patch) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(patch.getIds()));
+        assertSystemsExist(distinctIds);
+        if (patch.getUserId() != null) {
+            assertUsersExist(List.of(patch.getUserId()));
+        }
+
+        // Write pending changes first and drop managed copies afterwards,
+        // since the bulk statement bypasses the persistence context
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (List<Long> chunk : chunks(distinctIds)) {
+            updated += entityManager.createQuery(patchStatement(patch, chunk, now)).executeUpdate();
+        }
+        entityManager.clear();
+        computerSystemCache.evict(distinctIds);
+
+        log.debug("Bulk patched {} computer systems in {} chunk(s)",
+                updated, chunkCount(distinctIds.size()));
+        return updated;
+    }
+
+    /**
+     * Fallback for patchAll when database circuit breaker is OPEN.
+     */
+    public int patchAllFallback(BatchComputerSystemPatchRequest patch, CallNotPermittedException ex) {
+        log.error("Database circuit breaker OPEN: Cannot bulk patch {} computer systems - database unavailable",
+                patch.getIds().size());
+        throw new RuntimeException("Database service temporarily unavailable. Please try again later.");
+    }
+
+    /**
+     * Deletes all computer systems with the given IDs or none of them.
+     *
+     * Existence is verified for every ID before any row is deleted, so a
+     * single missing ID fails the whole batch with 404.
+     *
+     * @param ids IDs to delete; duplicates are ignored
+     * @return Number of computer systems deleted
+     * @throws ResourceNotFoundException If any ID does not exist
+     */
+    @CircuitBreaker(name = "databaseQuery", fallbackMethod = "deleteAllFallback")
+    public int deleteAll(List<Long> ids) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        assertSystemsExist(distinctIds);
+
+        int deleted = 0;
+        for (List<Long> chunk : chunks(distinctIds)) {
+            deleted += repository.deleteAllByIdIn(chunk);
+        }
+        computerSystemCache.evict(distinctIds);
+
+        log.debug("Bulk deleted {} computer systems in {} chunk(s)",
+                deleted, chunkCount(distinctIds.size()));
+        return deleted;
+    }
+
+    /**
+     * Fallback for deleteAll when database circuit breaker is OPEN.
+     */
+    public int deleteAllFallback(List<Long> ids, CallNotPermittedException ex) {
+        log.error("Database circuit breaker OPEN: Cannot bulk delete {} computer systems - database unavailable",
+                ids.size());
+        throw new RuntimeException("Database service temporarily unavailable. Please try again later.");
+    }
+
+    /**
+     * Loads every update target, keyed by ID. Users stay lazy; only their IDs are read.
+     */
+    private Map<Long, ComputerSystem> loadTargets(List<ComputerSystemDto> items) {
+        List<Long> ids = new ArrayList<>(items.size());
+        Set<Long> seen = new HashSet<>();
+        for (ComputerSystemDto dto : items) {
+            if (dto.getId() == null) {
+                throw new ResourceNotFoundException("Computer system with id null" + NOT_FOUND);
+            }
+            if (!seen.add(dto.getId())) {
+                throw new DuplicateResourceException(
+                        "Computer system with id " + dto.getId() + " appears more than once in the batch");
+            }
+            ids.add(dto.getId());
+        }
+
+        Map<Long, ComputerSystem> targets = new HashMap<>();
+        for (List<Long> chunk : chunks(ids)) {
+            repository.findAllById(chunk).forEach(entity -> targets.put(entity.getId(), entity));
+        }
+        for (Long id : ids) {
+            if (!targets.containsKey(id)) {
+                throw new ResourceNotFoundException("Computer system with id " + id + NOT_FOUND);
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Rejects the batch if any item was based on a stale copy of its system.
+     */
+    private static void assertVersionsMatch(List<ComputerSystemDto> items, Map<Long, ComputerSystem> targets) {
+        for (ComputerSystemDto dto : items) {
+            ComputerSystem target = targets.get(dto.getId());
+            if (dto.getVersion() != null && !dto.getVersion().equals(target.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(ComputerSystem.class, dto.getId());
+            }
+        }
+    }
+
+    /**
+     * Builds the bulk UPDATE for one chunk of a patch. Only supplied fields are set.
+     */
+    private CriteriaUpdate<ComputerSystem> patchStatement(BatchComputerSystemPatchRequest patch,
+                                                          List<Long> ids, LocalDateTime now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<ComputerSystem> update = cb.createCriteriaUpdate(ComputerSystem.class);
+        Root<ComputerSystem> root = update.from(ComputerSystem.class);
+
+        if (patch.getManufacturer() != null) {
+            update.set(root.<String>get("manufacturer"), patch.getManufacturer());
+        }
+        if (patch.getModel() != null) {
+            update.set(root.<String>get("model"), patch.getModel());
+        }
+        if (patch.getDepartment() != null) {
+            update.set(root.<String>get("department"), patch.getDepartment());
+        }
+        if (patch.getNetworkName() != null) {
+            update.set(root.<String>get("networkName"), patch.getNetworkName());
+        }
+        if (patch.getUserId() != null) {
+            update.set(root.<User>get("systemUser"), entityManager.getReference(User.class, patch.getUserId()));
+        }
+        update.set(root.<LocalDateTime>get("updatedAt"), now);
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.where(root.get("id").in(ids));
+        return update;
+    }
+
+    /**
+     * Rejects batches that repeat a hostname, MAC or IP address.
+     * The database would reject these on flush, but only after partial work.
+     */
+    private void assertNoDuplicatesWithinBatch(List<ComputerSystemDto> items) {
+        Set<String> hostnames = new HashSet<>();
+        Set<String> macAddresses = new HashSet<>();
+        Set<String> ipAddresses = new HashSet<>();
+
+        for (ComputerSystemDto dto : items) {
+            if (!hostnames.add(dto.getHostname())) {
+                throw new DuplicateResourceException(
+                        "Computer system with hostname " + dto.getHostname() + " appears more than once in the batch");
+            }
+            if (!macAddresses.add(dto.getMacAddress())) {
+                throw new DuplicateResourceException(
+                        "Computer system with MAC address " + dto.getMacAddress() + " appears more than once in the batch");
+            }
+            if (!ipAddresses.add(dto.getIpAddress())) {
+                throw new DuplicateResourceException(
+                        "Computer system with IP address " + dto.getIpAddress() + " appears more than once in the batch");
+            }
+        }
+    }
+
+    /**
+     * Parks keys that another item of the batch takes over on unique
+     * placeholders, then flushes. Unique constraints are checked per UPDATE
+     * statement, so without this the first system to take over a key would
+     * collide with the system still holding it.
+     */
+    private void parkMovedKeys(List<ComputerSystemDto> items, Map<Long, ComputerSystem> targets) {
+        Set<String> hostnames = new HashSet<>();
+        Set<String> macAddresses = new HashSet<>();
+        Set<String> ipAddresses = new HashSet<>();
+        for (ComputerSystemDto dto : items) {
+            hostnames.add(dto.getHostname());
+            macAddresses.add(dto.getMacAddress());
+            ipAddresses.add(dto.getIpAddress());
+        }
+
+        int parked = 0;
+        for (ComputerSystemDto dto : items) {
+            ComputerSystem entity = targets.get(dto.getId());
+            String placeholder = "parked:" + UUID.randomUUID();
+            boolean park = false;
+            if (takenOver(entity.getHostname(), dto.getHostname(), hostnames)) {
+                entity.setHostname(placeholder);
+                park = true;
+            }
+            if (takenOver(entity.getMacAddress(), dto.getMacAddress(), macAddresses)) {
+                entity.setMacAddress(placeholder);
+                park = true;
+            }
+            if (takenOver(entity.getIpAddress(), dto.getIpAddress(), ipAddresses)) {
+                entity.setIpAddress(placeholder);
+                park = true;
+            }
+            if (park) {
+                parked++;
+            }
+        }
+
+        if (parked > 0) {
+            log.debug("Parked keys of {} computer systems moving within the batch", parked);
+            flushUpdates();
+        }
+    }
+
+    private static boolean takenOver(String current, String requested, Set<String> requestedInBatch) {
+        return !current.equals(requested) && requestedInBatch.contains(current);
+    }
+
+    private void flushUpdates() {
+        try {
+            repository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            // Only reachable when a concurrent writer claims a key after the pre-checks
+            throw new DuplicateResourceException(
+                    "Batch conflicts with a computer system changed concurrently - no items updated", ex);
+        }
+    }
+
+    /**
+     * Rejects batches containing keys already held by other systems.
+     * Messages match the single-item create and update paths.
+     *
+     * A key held by a system updated in the same batch is accepted if that
+     * item gives the key up, so systems can swap keys in one batch.
+     *
+     * @param items Items to check
+     * @param targets Current state of the systems being updated, keyed by ID;
+     *                empty for creates. Items whose keys are unchanged are skipped.
+     */
+    private void assertNoExistingKeys(List<ComputerSystemDto> items, Map<Long, ComputerSystem> targets) {
+        List<ComputerSystemDto> candidates = items.stream()
+                .filter(dto -> keysChanged(dto, targets.get(dto.getId())))
+                .toList();
+
+        Map<Long, ComputerSystemDto> itemsById = new HashMap<>();
+        if (!targets.isEmpty()) {
+            for (ComputerSystemDto dto : items) {
+                itemsById.put(dto.getId(), dto);
+            }
+        }
+
+        Map<String, Long> hostnameOwners = new HashMap<>();
+        Map<String, Long> macAddressOwners = new HashMap<>();
+        Map<String, Long> ipAddressOwners = new HashMap<>();
+
+        for (List<ComputerSystemDto> chunk : chunks(candidates)) {
+            List<ComputerSystemKeys> conflicts = repository.findUniqueKeyConflictsIn(
+                    chunk.stream().map(ComputerSystemDto::getHostname).toList(),
+                    chunk.stream().map(ComputerSystemDto::getMacAddress).toList(),
+                    chunk.stream().map(ComputerSystemDto::getIpAddress).toList());
+            for (ComputerSystemKeys existing : conflicts) {
+                hostnameOwners.put(existing.getHostname(), existing.getId());
+                macAddressOwners.put(existing.getMacAddress(), existing.getId());
+                ipAddressOwners.put(existing.getIpAddress(), existing.getId());
+            }
+        }
+
+        for (ComputerSystemDto dto : candidates) {
+            ComputerSystem target = targets.get(dto.getId());
+            Long ownId = target == null ? null : target.getId();
+            if (heldByOther(hostnameOwners.get(dto.getHostname()), ownId,
+                    dto.getHostname(), itemsById, ComputerSystemDto::getHostname)) {
+                throw new DuplicateResourceException(
+                        "Computer system with hostname " + dto.getHostname() + " already exists");
+            }
+            if (heldByOther(macAddressOwners.get(dto.getMacAddress()), ownId,
+                    dto.getMacAddress(), itemsById, ComputerSystemDto::getMacAddress)) {
+                throw new DuplicateResourceException(
+                        "Computer system with MAC address " + dto.getMacAddress() + " already exists");
+            }
+            if (heldByOther(ipAddressOwners.get(dto.getIpAddress()), ownId,
+                    dto.getIpAddress(), itemsById, ComputerSystemDto::getIpAddress)) {
+                throw new DuplicateResourceException(
+                        "Computer system with IP address " + dto.getIpAddress() + " already exists");
+            }
+        }
+    }
+
+    private static boolean keysChanged(ComputerSystemDto dto, ComputerSystem target) {
+        return target == null
+                || !Objects.equals(dto.getHostname(), target.getHostname())
+                || !Objects.equals(dto.getMacAddress(), target.getMacAddress())
+                || !Objects.equals(dto.getIpAddress(), target.getIpAddress());
+    }
+
+    private static boolean userChanged(ComputerSystemDto dto, ComputerSystem target) {
+        return !Objects.equals(dto.getUserId(), target.getSystemUser().getId());
+    }
+
+    /**
+     * True if the key is held by another system, unless that system is
+     * updated in the same batch to a different value for the key.
+     */
+    private static boolean heldByOther(Long ownerId, Long ownId, String key,
+                                       Map<Long, ComputerSystemDto> itemsById,
+                                       Function<ComputerSystemDto, String> attribute) {
+        if (ownerId == null || ownerId.equals(ownId)) {
+            return false;
+        }
+        ComputerSystemDto owner = itemsById.get(ownerId);
+        return owner == null || key.equals(attribute.apply(owner));
+    }
+
+    /**
+     * Resolves every referenced user ID with set-based lookups.
+     */
+    private void assertUsersExist(Collection<Long> referencedUserIds) {
+        List<Long> userIds = new ArrayList<>(new LinkedHashSet<>(referencedUserIds));
+
+        Set<Long> existing = new HashSet<>();
+        for (List<Long> chunk : chunks(userIds)) {
+            existing.addAll(userRepository.findExistingIds(chunk));
+        }
+
+        for (Long userId : userIds) {
+            if (!existing.contains(userId)) {
+                throw new ResourceNotFoundException("User with id " + userId + NOT_FOUND);
+            }
+        }
+    }
+
+    /**
+     * Resolves every computer system ID with set-based lookups.
+     */
+    private void assertSystemsExist(List<Long> ids) {
+        Set<Long> existing = new HashSet<>();
+        for (List<Long> chunk : chunks(ids)) {
+            existing.addAll(repository.findExistingIds(chunk));
+        }
+
+        for (Long id : ids) {
+            if (!existing.contains(id)) {
+                throw new ResourceNotFoundException("Computer system with id " + id + NOT_FOUND);
+            }
+        }
+    }
+
+    private <T> List<List<T>> chunks(List<T> items) {
+        int chunkSize = batchProperties.getChunkSize();
+        List<List<T>> chunks = new ArrayList<>(chunkCount(items.size()));
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            chunks.add(items.subList(from, Math.min(from + chunkSize, items.size())));
+        }
+        return chunks;
+    }
+
+    private int chunkCount(int size) {
+        int chunkSize = batchProperties.getChunkSize();
+        return (size + chunkSize - 1) / chunkSize;
+    }
+}
@@ -0,0 +1,194 @@
+package com.demo.application.batch;
+
+import com.demo.domain.batch.BatchImportChunkResult;
+import com.demo.domain.batch.BatchImportSummary;
+import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.shared.config.BatchProperties;
+import com.demo.shared.exception.DuplicateResourceException;
+import com.demo.shared.exception.ResourceNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming import of computer systems from NDJSON (one JSON object per line).
+ *
+ * Unlike the batch endpoints, an import is not all-or-nothing. Records are
+ * read one at a time with Jackson's streaming parser, validated, and buffered
+ * only until a chunk of app.batch.import-chunk-size records is complete. Each
+ * chunk is then created through BatchComputerSystemService in its own
+ * transaction, and its result is handed to the caller before the next chunk
+ * is read. Memory use depends on the chunk size, not on the input size.
+ *
+ * Failure handling:
+ * - Invalid record: skipped and reported in its chunk's errors
+ * - Duplicate key or unknown user in a chunk: that chunk rolls back, later chunks continue
+ * - Malformed JSON or unavailable database: import aborted, earlier chunks stay committed
+ * - onChunk fails to write (client disconnected): exception propagates, earlier chunks stay committed
+ *
+ * This service is deliberately not transactional; transactions are scoped
+ * to each chunk by BatchComputerSystemService.createAll.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BatchImportService {
+
+    private final BatchComputerSystemService batchComputerSystemService;
+    private final BatchProperties batchProperties;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * Imports all records from the given NDJSON stream.
+     *
+     * @param input NDJSON input; closed once the import finishes
+     * @param onChunk Receives each chunk result as soon as the chunk is committed or rolled back
+     * @return Totals for the whole import
+     * @throws IOException If the input stream cannot be closed
+     * @throws UncheckedIOException If onChunk fails to write its result; no summary is returned,
+     *                              since it could not be written either
+     */
+    public BatchImportSummary importNdjson(InputStream input, Consumer<BatchImportChunkResult> onChunk)
+            throws IOException {
+        int chunkSize = batchProperties.getImportChunkSize();
+        ImportProgress progress = new ImportProgress();
+        List<ComputerSystemDto> valid = new ArrayList<>(chunkSize);
+        List<String> errors = new ArrayList<>();
+        long firstRecord = 1;
+
+        try (MappingIterator<ComputerSystemDto> records =
+                     objectMapper.readerFor(ComputerSystemDto.class).readValues(input)) {
+            while (records.hasNextValue()) {
+                ComputerSystemDto dto = records.nextValue();
+                progress.records++;
+
+                String violation = validate(dto);
+                if (violation == null) {
+                    valid.add(dto);
+                } else {
+                    errors.add("record " + progress.records + ": " + violation);
+                }
+
+                if (progress.records - firstRecord + 1 == chunkSize) {
+                    onChunk.accept(commitChunk(progress, firstRecord, valid, errors));
+                    firstRecord = progress.records + 1;
+                    valid.clear();
+                    errors.clear();
+                }
+            }
+
+            if (progress.records >= firstRecord) {
+                onChunk.accept(commitChunk(progress, firstRecord, valid, errors));
+            }
+        } catch (JacksonException ex) {
+            log.warn("Import aborted: malformed input after record {}", progress.records, ex);
+            return progress.summary("ABORTED",
+                    "Malformed JSON after record " + progress.records + ": " + ex.getOriginalMessage());
+        } catch (UncheckedIOException ex) {
+            // Output failed, not the import; the caller cannot report a summary
+            log.warn("Import stopped at record {}: result could not be written", progress.records);
+            throw ex;
+        } catch (RuntimeException ex) {
+            log.error("Import aborted at record {}", progress.records, ex);
+            return progress.summary("ABORTED", ex.getMessage());
+        }
+
+        log.info("Import completed: {} records, {} created, {} failed in {} chunk(s)",
+                progress.records, progress.created, progress.failed, progress.chunks);
+        return progress.summary(status(progress.created, progress.failed), null);
+    }
+
+    /**
+     * Creates the valid records of one chunk in a single transaction.
+     */
+    private BatchImportChunkResult commitChunk(ImportProgress progress, long firstRecord,
+                                               List<ComputerSystemDto> valid, List<String> errors) {
+        int chunkErrors = errors.size();
+        List<String> chunkMessages = new ArrayList<>(errors);
+        int created = 0;
+
+        if (!valid.isEmpty()) {
+            try {
+                created = batchComputerSystemService.createAll(valid).size();
+            } catch (DuplicateResourceException | ResourceNotFoundException ex) {
+                // Chunk rolled back as a unit; keep going with the next one
+                chunkMessages.add("chunk rolled back: " + ex.getMessage());
+                chunkErrors += valid.size();
+            }
+        }
+
+        progress.chunks++;
+        progress.created += created;
+        progress.failed += chunkErrors;
+        log.info("Import chunk {} (records {}-{}): {} created, {} failed",
+                progress.chunks, firstRecord, progress.records, created, chunkErrors);
+
+        return BatchImportChunkResult.builder()
+                .chunk(progress.chunks)
+                .firstRecord(firstRecord)
+                .lastRecord(progress.records)
+                .created(created)
+                .failed(chunkErrors)
+                .status(status(created, chunkErrors))
+                .errors(chunkMessages)
+                .build();
+    }
+
+    /**
+     * Returns the record's constraint violations as one message, or null if valid.
+     */
+    private String validate(ComputerSystemDto dto) {
+        Set<ConstraintViolation<ComputerSystemDto>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .collect(Collectors.joining("; "));
+    }
+
+    private static String status(long created, long failed) {
+        if (failed == 0) {
+            return "SUCCESS";
+        }
+        return created == 0 ? "FAILED" : "PARTIAL";
+    }
+
+    /**
+     * Running totals for one import.
+     */
+    private static final class ImportProgress {
+        private long records;
+        private long created;
+        private long failed;
+        private int chunks;
+
+        private BatchImportSummary summary(String status, String error) {
+            return BatchImportSummary.builder()
+                    .totalRecords(records)
+                    .created(created)
+                    .failed(failed)
+                    .chunks(chunks)
+                    .status(status)
+                    .error(error)
+                    .build();
+        }
+    }
+}
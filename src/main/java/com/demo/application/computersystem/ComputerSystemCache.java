@@ -0,0 +1,193 @@
+package com.demo.application.computersystem;
+
+import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.shared.config.ComputerSystemCacheProperties;
+import com.demo.shared.exception.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of computer system DTOs, keyed by ID and hostname.
+ *
+ * Sits in front of the transactional service so that a hit costs a map
+ * lookup: no transaction, no circuit-breaker call and no JDBC. DTOs are
+ * stored once, by ID; the hostname key only maps to an ID and is verified
+ * against the cached DTO on every use, so a renamed or deleted system can
+ * never be served under its old hostname.
+ *
+ * Consistency:
+ * - Writers call evict() inside their transaction. Entries are dropped
+ *   immediately and again after commit, so a reader that loaded the old row
+ *   while the transaction was open cannot leave it behind.
+ * - ID loads run inside the cache's per-key computation, which an eviction
+ *   waits for.
+ * - Hostname loads are only cached if no eviction happened while they ran
+ *   or while they were being stored. evictNow counts before it invalidates,
+ *   so an eviction either sees the stored entries or is seen by the load.
+ *
+ * Misses (unknown ID or hostname) are not cached. Neither are loads made
+ * inside a caller's transaction, which may see uncommitted rows that are
+ * later rolled back.
+ */
+@Component
+@Slf4j
+public class ComputerSystemCache implements MeterBinder {
+
+    static final String CACHE_NAME = "computer-systems";
+
+    private final Cache<Long, ComputerSystemDto> byId;
+    private final Cache<String, Long> idByHostname;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ComputerSystemCache(ComputerSystemCacheProperties properties) {
+        Duration ttl = Duration.ofSeconds(properties.getTtlSeconds());
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idByHostname = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Returns the system with the given ID, loading it on a miss.
+     *
+     * @param id Computer system ID
+     * @param loader Loads the DTO from the database; may throw ResourceNotFoundException
+     * @return Cached or freshly loaded DTO
+     */
+    public ComputerSystemDto getById(Long id, Function<Long, ComputerSystemDto> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.apply(id);
+        }
+        ComputerSystemDto dto = byId.get(id, loader);
+        idByHostname.put(dto.getHostname(), id);
+        return dto;
+    }
+
+    /**
+     * Returns the system with the given hostname, loading it on a miss.
+     *
+     * @param hostname Computer system hostname
+     * @param idLoader Loads a system by ID, used when the hostname is already mapped
+     * @param hostnameLoader Loads a system by hostname; may throw ResourceNotFoundException
+     * @return Cached or freshly loaded DTO
+     */
+    public ComputerSystemDto getByHostname(String hostname, Function<Long, ComputerSystemDto> idLoader,
+                                           Function<String, ComputerSystemDto> hostnameLoader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return hostnameLoader.apply(hostname);
+        }
+        Long id = idByHostname.getIfPresent(hostname);
+        if (id != null) {
+            try {
+                ComputerSystemDto dto = byId.get(id, idLoader);
+                if (hostname.equals(dto.getHostname())) {
+                    return dto;
+                }
+            } catch (ResourceNotFoundException ex) {
+                // Mapped system was deleted; the hostname may belong to another system now
+            }
+            idByHostname.asMap().remove(hostname, id);
+        }
+
+        long evictionsBefore = evictions.get();
+        ComputerSystemDto dto = hostnameLoader.apply(hostname);
+        if (evictions.get() == evictionsBefore) {
+            byId.asMap().putIfAbsent(dto.getId(), dto);
+            idByHostname.put(hostname, dto.getId());
+            // An eviction between the check and the puts has not seen them; undo
+            if (evictions.get() != evictionsBefore) {
+                byId.asMap().remove(dto.getId(), dto);
+                idByHostname.asMap().remove(hostname, dto.getId());
+            }
+        }
+        return dto;
+    }
+
+    /**
+     * Returns the cached system with the given ID without loading it.
+     */
+    public Optional<ComputerSystemDto> getIfPresent(Long id) {
+        return Optional.ofNullable(byId.getIfPresent(id));
+    }
+
+    /**
+     * Returns the cached system with the given hostname without loading it.
+     */
+    public Optional<ComputerSystemDto> getIfPresentByHostname(String hostname) {
+        Long id = idByHostname.getIfPresent(hostname);
+        return Optional.ofNullable(id == null ? null : byId.getIfPresent(id))
+                .filter(dto -> hostname.equals(dto.getHostname()));
+    }
+
+    /**
+     * Invalidates the given system now and, if a transaction is active,
+     * again after it commits.
+     */
+    public void evict(Long id) {
+        evict(List.of(id));
+    }
+
+    /**
+     * Invalidates the given systems now and, if a transaction is active,
+     * again after it commits.
+     */
+    public void evict(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        evictNow(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(ids);
+                }
+            });
+        }
+    }
+
+    /**
+     * Drops every entry, e.g. after bulk changes not tracked by ID.
+     */
+    public void evictAll() {
+        evictions.incrementAndGet();
+        byId.invalidateAll();
+        idByHostname.invalidateAll();
+    }
+
+    private void evictNow(Collection<Long> ids) {
+        evictions.incrementAndGet();
+        for (Long id : ids) {
+            ComputerSystemDto cached = byId.getIfPresent(id);
+            byId.invalidate(id);
+            if (cached != null) {
+                idByHostname.asMap().remove(cached.getHostname(), id);
+            }
+        }
+        log.debug("Evicted {} computer system(s) from cache", ids.size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, byId, CACHE_NAME);
+    }
+}
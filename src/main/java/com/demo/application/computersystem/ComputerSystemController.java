@@ -1,6 +1,12 @@
 package com.demo.application.computersystem;
 
 import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.domain.computersystem.ComputerSystemVersion;
+import com.demo.domain.computersystem.HostnameGrams;
+import com.demo.shared.exception.InvalidRequestException;
+import com.demo.shared.pagination.CursorPage;
+import com.demo.shared.security.AccessScope;
+import com.demo.shared.security.AuthorizationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,19 +20,39 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/computer-systems")
 @Tag(name = "Computer Systems", description = "APIs for managing computer systems")
 public class ComputerSystemController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ComputerSystemService computerSystemService;
+    private final ComputerSystemExportService exportService;
+    private final ComputerSystemCache computerSystemCache;
+    private final AuthorizationService authorizationService;
 
-    public ComputerSystemController(ComputerSystemService computerSystemService) {
+    public ComputerSystemController(ComputerSystemService computerSystemService,
+                                    ComputerSystemExportService exportService,
+                                    ComputerSystemCache computerSystemCache,
+                                    AuthorizationService authorizationService) {
         this.computerSystemService = computerSystemService;
+        this.exportService = exportService;
+        this.computerSystemCache = computerSystemCache;
+        this.authorizationService = authorizationService;
     }
 
     @PostMapping
@@ -46,35 +72,62 @@ public class ComputerSystemController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Get computer system by ID",
-               description = "Retrieves a single computer system by its ID")
+               description = "Retrieves a single computer system by its ID. Served from an in-process cache; " +
+                             "send the returned ETag in If-None-Match (or Last-Modified in If-Modified-Since) " +
+                             "to get 304 Not Modified when unchanged.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Computer system found",
                      content = @Content(schema = @Schema(implementation = ComputerSystemDto.class))),
-        @ApiResponse(responseCode = "404", description = "Computer system not found")
+        @ApiResponse(responseCode = "304", description = "Computer system unchanged since the given ETag"),
+        @ApiResponse(responseCode = "404", description = "Computer system not found or not readable by the caller")
     })
     public ResponseEntity<ComputerSystemDto> getComputerSystemById(
-            @PathVariable Long id) {
-        ComputerSystemDto computerSystem = computerSystemService.getComputerSystemById(id);
-        return ResponseEntity.ok(computerSystem);
+            @PathVariable Long id,
+            WebRequest request) {
+        computerSystemService.requireWithinScope(id, readAccess());
+        // Cached systems are compared in memory by withETag; otherwise read only the version
+        if (isConditional(request) && computerSystemCache.getIfPresent(id).isEmpty()
+                && notModified(request, computerSystemService.getComputerSystemVersionById(id))) {
+            return null;
+        }
+        ComputerSystemDto computerSystem =
+                computerSystemCache.getById(id, computerSystemService::getComputerSystemById);
+        return withETag(computerSystem);
     }
 
     @GetMapping("/hostname/{hostname}")
     @Operation(summary = "Get computer system by hostname",
-               description = "Retrieves a single computer system by its hostname")
+               description = "Retrieves a single computer system by its hostname. Served from an in-process " +
+                             "cache; supports If-None-Match like the lookup by ID.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Computer system found",
                      content = @Content(schema = @Schema(implementation = ComputerSystemDto.class))),
-        @ApiResponse(responseCode = "404", description = "Computer system not found")
+        @ApiResponse(responseCode = "304", description = "Computer system unchanged since the given ETag"),
+        @ApiResponse(responseCode = "404", description = "Computer system not found or not readable by the caller")
     })
     public ResponseEntity<ComputerSystemDto> getComputerSystemByHostname(
-            @PathVariable String hostname) {
-        ComputerSystemDto computerSystem = computerSystemService.getComputerSystemByHostname(hostname);
-        return ResponseEntity.ok(computerSystem);
+            @PathVariable String hostname,
+            WebRequest request) {
+        AccessScope access = readAccess();
+        if (isConditional(request) && computerSystemCache.getIfPresentByHostname(hostname).isEmpty()) {
+            ComputerSystemVersion version = computerSystemService.getComputerSystemVersionByHostname(hostname);
+            computerSystemService.requireWithinScope(version.getId(), access);
+            if (notModified(request, version)) {
+                return null;
+            }
+            return withETag(computerSystemCache.getById(version.getId(), computerSystemService::getComputerSystemById));
+        }
+        ComputerSystemDto computerSystem = computerSystemCache.getByHostname(hostname,
+                computerSystemService::getComputerSystemById,
+                computerSystemService::getComputerSystemByHostname);
+        computerSystemService.requireWithinScope(computerSystem.getId(), access);
+        return withETag(computerSystem);
     }
 
     @GetMapping
     @Operation(summary = "Get all computer systems",
-               description = "Retrieves all computer systems with pagination and sorting support")
+               description = "Retrieves the computer systems the caller may read (per the READ scope of their role) " +
+                             "with pagination and sorting support")
     @ApiResponse(responseCode = "200", description = "List of computer systems retrieved",
                  content = @Content(schema = @Schema(implementation = ComputerSystemDto.class)))
     @Parameter(name = "page", description = "Page number (0-indexed)", example = "0", in = ParameterIn.QUERY)
@@ -82,25 +135,97 @@ public class ComputerSystemController {
     @Parameter(name = "sort", description = "Sort criteria (e.g., 'id,desc')", example = "id,asc", in = ParameterIn.QUERY)
     public ResponseEntity<Page<ComputerSystemDto>> getAllComputerSystems(
             @PageableDefault(size = 20, page = 0, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
-        Page<ComputerSystemDto> computerSystems = computerSystemService.getAllComputerSystems(pageable);
-        return ResponseEntity.ok(computerSystems);
+        Page<ComputerSystemDto> computerSystems =
+                computerSystemService.getAllComputerSystems(readAccess(), pageable);
+        return withListETag(computerSystems, computerSystems.getContent(),
+                computerSystems.getTotalElements(), computerSystems.getNumber(), computerSystems.getSize());
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "List computer systems with cursor pagination",
+               description = "Keyset-paginated listing with the same filters and READ scoping as /filter. Pass nextCursor from " +
+                             "the previous response to read the next page. Latency is constant at any depth " +
+                             "and no total count is computed.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Page of computer systems retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid sort, size or cursor")
+    })
+    @Parameter(name = "size", description = "Page size (1-" + MAX_CURSOR_PAGE_SIZE + ")", example = "20", in = ParameterIn.QUERY)
+    @Parameter(name = "sort", description = "Sort key (id, hostname or department) and direction; id is the tie-breaker", example = "hostname,asc", in = ParameterIn.QUERY)
+    @Parameter(name = "cursor", description = "Opaque cursor from the previous page", in = ParameterIn.QUERY)
+    public ResponseEntity<CursorPage<ComputerSystemDto>> scrollComputerSystems(
+            @RequestParam(required = false) String hostname,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id,asc") String sort,
+            @RequestParam(required = false) String cursor) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        CursorPage<ComputerSystemDto> page = computerSystemService.scrollComputerSystems(
+                readAccess(), hostname, department, userId, parseSort(sort), size, cursor);
+        return withListETag(page, page.getItems(), page.getSize(), page.isHasNext(), page.getNextCursor());
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export computer systems",
+               description = "Streams the computer systems the caller may read (per the READ scope of their role) " +
+                             "in ID order as NDJSON (default) or CSV. " +
+                             "Runs in constant memory and never issues a count query.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed"),
+        @ApiResponse(responseCode = "400", description = "Unsupported format")
+    })
+    @Parameter(name = "format", description = "Export format: ndjson or csv", example = "ndjson", in = ParameterIn.QUERY)
+    public ResponseEntity<?> exportComputerSystems(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        Optional<ComputerSystemExportService.ExportFormat> exportFormat =
+                ComputerSystemExportService.ExportFormat.of(format);
+        if (exportFormat.isEmpty()) {
+            ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                    "Unsupported export format '" + format + "' - use ndjson or csv");
+            problem.setTitle("Unsupported Export Format");
+            return ResponseEntity.badRequest().body(problem);
+        }
+
+        ComputerSystemExportService.ExportFormat selected = exportFormat.get();
+        // Resolved here: the body is written on an async thread without the security context
+        AccessScope access = readAccess();
+        StreamingResponseBody body = out -> exportService.export(out, selected, access);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(selected.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"computer-systems." + selected.name().toLowerCase(Locale.ROOT) + "\"")
+                .body(body);
     }
 
     @GetMapping("/filter")
     @Operation(summary = "Filter computer systems",
-               description = "Filters computer systems based on hostname, department, and user with pagination and sorting")
-    @ApiResponse(responseCode = "200", description = "Filtered computer systems retrieved")
+               description = "Filters the computer systems the caller may read based on hostname, department, and user " +
+                             "with pagination and sorting. " +
+                             "Hostname matching is case-insensitive and index-backed; substring terms shorter than " +
+                             "3 characters are not indexed.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Filtered computer systems retrieved"),
+        @ApiResponse(responseCode = "400", description = "Unsupported hostname match mode")
+    })
+    @Parameter(name = "hostnameMatch", description = "Hostname match mode: contains or prefix", example = "contains", in = ParameterIn.QUERY)
     @Parameter(name = "page", description = "Page number (0-indexed)", example = "0", in = ParameterIn.QUERY)
     @Parameter(name = "size", description = "Page size", example = "20", in = ParameterIn.QUERY)
     @Parameter(name = "sort", description = "Sort criteria (e.g., 'id,desc')", example = "id,asc", in = ParameterIn.QUERY)
     public ResponseEntity<Page<ComputerSystemDto>> filterComputerSystems(
             @RequestParam(required = false) String hostname,
+            @RequestParam(defaultValue = "contains") String hostnameMatch,
             @RequestParam(required = false) String department,
             @RequestParam(required = false) Long userId,
             @PageableDefault(size = 20, page = 0, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
+        HostnameGrams.Match match = HostnameGrams.Match.of(hostnameMatch)
+                .orElseThrow(() -> new InvalidRequestException("hostnameMatch must be contains or prefix"));
         Page<ComputerSystemDto> computerSystems = computerSystemService.filterComputerSystems(
-                hostname, department, userId, pageable);
-        return ResponseEntity.ok(computerSystems);
+                readAccess(), hostname, match, department, userId, pageable);
+        return withListETag(computerSystems, computerSystems.getContent(),
+                computerSystems.getTotalElements(), computerSystems.getNumber(), computerSystems.getSize());
     }
 
     @PutMapping("/{id}")
@@ -111,13 +236,16 @@ public class ComputerSystemController {
                      content = @Content(schema = @Schema(implementation = ComputerSystemDto.class))),
         @ApiResponse(responseCode = "400", description = "Invalid input"),
         @ApiResponse(responseCode = "404", description = "Computer system not found"),
-        @ApiResponse(responseCode = "409", description = "Duplicate resource")
+        @ApiResponse(responseCode = "409", description = "Duplicate resource or stale version"),
+        @ApiResponse(responseCode = "412", description = "If-Match does not match the current ETag")
     })
+    @Parameter(name = HttpHeaders.IF_MATCH, description = "Only update if the current ETag matches", in = ParameterIn.HEADER)
     public ResponseEntity<ComputerSystemDto> updateComputerSystem(
             @PathVariable Long id,
-            @Valid @RequestBody ComputerSystemDto dto) {
-        ComputerSystemDto updated = computerSystemService.updateComputerSystem(id, dto);
-        return ResponseEntity.ok(updated);
+            @Valid @RequestBody ComputerSystemDto dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ComputerSystemDto updated = computerSystemService.updateComputerSystem(id, dto, ifMatch);
+        return withETag(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -125,11 +253,83 @@ public class ComputerSystemController {
                description = "Deletes a computer system by its ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Computer system deleted successfully"),
-        @ApiResponse(responseCode = "404", description = "Computer system not found")
+        @ApiResponse(responseCode = "404", description = "Computer system not found"),
+        @ApiResponse(responseCode = "412", description = "If-Match does not match the current ETag")
     })
+    @Parameter(name = HttpHeaders.IF_MATCH, description = "Only delete if the current ETag matches", in = ParameterIn.HEADER)
     public ResponseEntity<Void> deleteComputerSystem(
-            @PathVariable Long id) {
-        computerSystemService.deleteComputerSystem(id);
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        computerSystemService.deleteComputerSystem(id, ifMatch);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * READ access of the caller. List and export endpoints pass it to the
+     * service, which applies the OWN/DEPARTMENT/ALL scope in the query, so
+     * page sizes and totals only count visible systems. Single-system
+     * lookups check it per request, since their cache is shared by all
+     * callers.
+     */
+    private AccessScope readAccess() {
+        return authorizationService.getCurrentAccessScope("ComputerSystem", "READ");
+    }
+
+    /**
+     * Builds a 200 response carrying the system's ETag and Last-Modified
+     * (see ComputerSystemETags). For GET requests whose If-None-Match or
+     * If-Modified-Since matches, Spring MVC turns it into 304 without
+     * serializing the body.
+     */
+    private static ResponseEntity<ComputerSystemDto> withETag(ComputerSystemDto computerSystem) {
+        if (computerSystem.getVersion() == null || computerSystem.getUpdatedAt() == null) {
+            return ResponseEntity.ok(computerSystem);
+        }
+        return ResponseEntity.ok()
+                .eTag(ComputerSystemETags.of(computerSystem))
+                .lastModified(ComputerSystemETags.lastModified(computerSystem.getUpdatedAt()))
+                .body(computerSystem);
+    }
+
+    /**
+     * Builds a 200 response for a list, tagged with a digest of its items.
+     */
+    private static <T> ResponseEntity<T> withListETag(T body, List<ComputerSystemDto> items, Object... pageValues) {
+        return ResponseEntity.ok()
+                .eTag(ComputerSystemETags.ofList(items, pageValues))
+                .body(body);
+    }
+
+    /**
+     * Answers a conditional GET from the version columns alone.
+     *
+     * @return true if the client's copy is current; the 304 response has then been prepared
+     */
+    private static boolean notModified(WebRequest request, ComputerSystemVersion version) {
+        if (version.getVersion() == null || version.getUpdatedAt() == null) {
+            return false;
+        }
+        return request.checkNotModified(ComputerSystemETags.of(version.getId(), version.getVersion()),
+                ComputerSystemETags.lastModified(version.getUpdatedAt()).toEpochMilli());
+    }
+
+    private static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * Parses a single "property[,direction]" sort parameter.
+     */
+    private static Sort.Order parseSort(String sort) {
+        String[] parts = sort.split(",");
+        if (parts.length > 2 || parts[0].isBlank()) {
+            throw new InvalidRequestException("Sort must be 'property' or 'property,asc|desc'");
+        }
+        Sort.Direction direction = parts.length == 2
+                ? Sort.Direction.fromOptionalString(parts[1].trim())
+                        .orElseThrow(() -> new InvalidRequestException("Sort direction must be asc or desc"))
+                : Sort.Direction.ASC;
+        return new Sort.Order(direction, parts[0].trim());
+    }
 }
@@ -0,0 +1,45 @@
+package com.demo.application.computersystem;
+
+import com.demo.domain.computersystem.ComputerSystem;
+import com.demo.domain.computersystem.ComputerSystemDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+/**
+ * Read-only listing that selects straight into ComputerSystemDto.
+ *
+ * Queries use a constructor expression instead of loading entities, so no
+ * managed ComputerSystem, User or Role instances are created, nothing is
+ * dirty checked, and userId is read from the assigned_user_id column
+ * without joining users or roles.
+ */
+public interface ComputerSystemDtoRepository {
+
+    /**
+     * Rows fetched per JDBC round trip by {@link #streamAllAsDto}.
+     */
+    int EXPORT_FETCH_SIZE = 1000;
+
+    /**
+     * Returns a page of DTOs matching the specification.
+     *
+     * @param spec Filter; use Specification.unrestricted() for all systems
+     * @param pageable Page and sort; sort properties refer to ComputerSystem
+     * @return Page of DTOs, with a count query only when the page is full
+     */
+    Page<ComputerSystemDto> findAllAsDto(Specification<ComputerSystem> spec, Pageable pageable);
+
+    /**
+     * Forward-only stream over the DTOs matching the specification in ID
+     * order, for exports. No count query is issued and nothing is attached
+     * to the persistence context, so memory stays flat for any result size.
+     * Must be consumed inside a transaction and closed.
+     *
+     * @param spec Filter; use Specification.unrestricted() for all systems
+     * @return Stream of DTOs, fetched EXPORT_FETCH_SIZE rows at a time
+     */
+    Stream<ComputerSystemDto> streamAllAsDto(Specification<ComputerSystem> spec);
+}
@@ -0,0 +1,103 @@
+package com.demo.application.computersystem;
+
+import com.demo.domain.computersystem.ComputerSystem;
+import com.demo.domain.computersystem.ComputerSystemDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria implementation of {@link ComputerSystemDtoRepository}.
+ */
+@RequiredArgsConstructor
+class ComputerSystemDtoRepositoryImpl implements ComputerSystemDtoRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<ComputerSystemDto> findAllAsDto(Specification<ComputerSystem> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ComputerSystemDto> query = cb.createQuery(ComputerSystemDto.class);
+        Root<ComputerSystem> root = query.from(ComputerSystem.class);
+        query.select(dtoSelection(root, cb));
+        applySpecification(spec, root, query, cb);
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<ComputerSystemDto> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<ComputerSystemDto> content = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Stream<ComputerSystemDto> streamAllAsDto(Specification<ComputerSystem> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ComputerSystemDto> query = cb.createQuery(ComputerSystemDto.class);
+        Root<ComputerSystem> root = query.from(ComputerSystem.class);
+        query.select(dtoSelection(root, cb));
+        applySpecification(spec, root, query, cb);
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .getResultStream();
+    }
+
+    private long count(Specification<ComputerSystem> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<ComputerSystem> root = query.from(ComputerSystem.class);
+        query.select(cb.count(root));
+        applySpecification(spec, root, query, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static void applySpecification(Specification<ComputerSystem> spec, Root<ComputerSystem> root,
+                                           CriteriaQuery<?> query, CriteriaBuilder cb) {
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    /**
+     * Constructor expression for ComputerSystemDto. Arguments follow the
+     * DTO's all-args constructor; systemUser.id resolves to the foreign key
+     * column, so no join is generated.
+     */
+    private static CompoundSelection<ComputerSystemDto> dtoSelection(Root<ComputerSystem> root, CriteriaBuilder cb) {
+        return cb.construct(ComputerSystemDto.class,
+                root.get("id"),
+                root.get("hostname"),
+                root.get("manufacturer"),
+                root.get("model"),
+                root.get("systemUser").get("id"),
+                root.get("department"),
+                root.get("macAddress"),
+                root.get("ipAddress"),
+                root.get("networkName"),
+                root.get("updatedAt"),
+                root.get("version"));
+    }
+}
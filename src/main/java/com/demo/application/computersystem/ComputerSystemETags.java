@@ -0,0 +1,101 @@
+package com.demo.application.computersystem;
+
+import com.demo.domain.computersystem.ComputerSystemDto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Strong entity tags and validators for computer system resources.
+ *
+ * A single system's ETag is its ID plus its optimistic lock version, which
+ * is incremented by every write, including bulk patches. A list ETag is a
+ * digest of the (ID, version) pairs of the listed systems plus the paging
+ * values that appear in the response body, so it is computed without
+ * serializing the page.
+ */
+final class ComputerSystemETags {
+
+    private static final int LIST_DIGEST_BYTES = 16;
+
+    private ComputerSystemETags() {
+    }
+
+    /**
+     * Returns the quoted ETag of one system, or null if it was never persisted.
+     */
+    static String of(Long id, Long version) {
+        if (id == null || version == null) {
+            return null;
+        }
+        return "\"" + id + "-v" + version + "\"";
+    }
+
+    static String of(ComputerSystemDto dto) {
+        return of(dto.getId(), dto.getVersion());
+    }
+
+    /**
+     * Returns the quoted ETag of a list response.
+     *
+     * @param items Listed systems, in response order
+     * @param pageValues Other values rendered in the body (totals, page number, next cursor)
+     */
+    static String ofList(List<ComputerSystemDto> items, Object... pageValues) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+        for (ComputerSystemDto dto : items) {
+            buffer.clear();
+            buffer.putLong(dto.getId() == null ? 0 : dto.getId());
+            buffer.putLong(dto.getVersion() == null ? -1 : dto.getVersion());
+            digest.update(buffer.array());
+        }
+        for (Object value : pageValues) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        byte[] hash = digest.digest();
+        return "\"L-" + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Arrays.copyOf(hash, LIST_DIGEST_BYTES)) + "\"";
+    }
+
+    /**
+     * Evaluates an If-Match header against the current ETag (RFC 9110, strong comparison).
+     *
+     * @param ifMatch Header value: "*" or a comma-separated list of entity tags
+     * @param current Current ETag of the existing resource
+     * @return Whether the precondition holds
+     */
+    static boolean matches(String ifMatch, String current) {
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (current != null && tag.equals(current))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converts updatedAt (stored as local server time) to a Last-Modified instant.
+     */
+    static Instant lastModified(LocalDateTime updatedAt) {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.demo.application.computersystem;
+
+import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.shared.security.AccessScope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Streams the computer systems a caller may read as NDJSON or CSV.
+ *
+ * Backed by a forward-only DTO stream instead of pages, so no count query is
+ * issued, deep offsets are never scanned and no entities are kept in the
+ * persistence context. Rows are fetched EXPORT_FETCH_SIZE at a time and
+ * flushed to the client at the same interval, keeping memory constant for
+ * exports of any size.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ComputerSystemExportService {
+
+    private static final String CSV_HEADER =
+            "id,hostname,manufacturer,model,userId,department,macAddress,ipAddress,networkName";
+
+    private final ComputerSystemRepository repository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Supported export formats.
+     */
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        ExportFormat(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * Resolves a format by case-insensitive name.
+         */
+        public static Optional<ExportFormat> of(String name) {
+            for (ExportFormat format : values()) {
+                if (format.name().equals(name.toUpperCase(Locale.ROOT))) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes every computer system within the caller's access to the given
+     * stream in ID order.
+     *
+     * Runs in its own read-only transaction, so it can be called from a
+     * StreamingResponseBody on an async thread. The security context is not
+     * available there, so access must be resolved by the caller beforehand.
+     *
+     * @param out Target stream; flushed but not closed
+     * @param format Output format
+     * @param access Caller's READ access; its scopes are applied in the query
+     * @return Number of rows written
+     * @throws IOException If writing to the stream fails
+     */
+    @Transactional(readOnly = true)
+    public long export(OutputStream out, ExportFormat format, AccessScope access) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long rows = 0;
+        try (Stream<ComputerSystemDto> systems =
+                     repository.streamAllAsDto(ComputerSystemSpecifications.withinScope(access))) {
+            Iterator<ComputerSystemDto> iterator = systems.iterator();
+            while (iterator.hasNext()) {
+                ComputerSystemDto dto = iterator.next();
+                writer.write(format == ExportFormat.CSV ? toCsv(dto) : objectMapper.writeValueAsString(dto));
+                writer.write('\n');
+
+                if (++rows % ComputerSystemRepository.EXPORT_FETCH_SIZE == 0) {
+                    // Push exported rows to the client
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+
+        log.info("Exported {} computer systems as {}", rows, format);
+        return rows;
+    }
+
+    private static String toCsv(ComputerSystemDto dto) {
+        return String.join(",",
+                String.valueOf(dto.getId()),
+                csv(dto.getHostname()),
+                csv(dto.getManufacturer()),
+                csv(dto.getModel()),
+                String.valueOf(dto.getUserId()),
+                csv(dto.getDepartment()),
+                csv(dto.getMacAddress()),
+                csv(dto.getIpAddress()),
+                csv(dto.getNetworkName()));
+    }
+
+    /**
+     * Quotes a CSV field when needed (RFC 4180).
+     */
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
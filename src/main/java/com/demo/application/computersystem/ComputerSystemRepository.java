@@ -1,36 +1,118 @@
 package com.demo.application.computersystem;
 
 import com.demo.domain.computersystem.ComputerSystem;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.domain.computersystem.ComputerSystemKeys;
+import com.demo.domain.computersystem.ComputerSystemVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface ComputerSystemRepository extends JpaRepository<ComputerSystem, Long> {
+public interface ComputerSystemRepository extends JpaRepository<ComputerSystem, Long>,
+        JpaSpecificationExecutor<ComputerSystem>, ComputerSystemDtoRepository {
 
     Optional<ComputerSystem> findByHostname(String hostname);
 
+    /**
+     * Reads a system straight into its DTO without loading the entity or
+     * joining the assigned user (see {@link ComputerSystemDtoRepository}).
+     * Arguments follow the ComputerSystemDto all-args constructor.
+     */
+    @Query("SELECT new com.demo.domain.computersystem.ComputerSystemDto(" +
+           "cs.id, cs.hostname, cs.manufacturer, cs.model, cs.systemUser.id, " +
+           "cs.department, cs.macAddress, cs.ipAddress, cs.networkName, cs.updatedAt, cs.version) " +
+           "FROM ComputerSystem cs WHERE cs.hostname = :hostname")
+    Optional<ComputerSystemDto> findDtoByHostname(@Param("hostname") String hostname);
+
+    /**
+     * Reads only the change-tracking columns used for conditional requests.
+     */
+    @Query("SELECT cs.id AS id, cs.updatedAt AS updatedAt, cs.version AS version " +
+           "FROM ComputerSystem cs WHERE cs.id = :id")
+    Optional<ComputerSystemVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Reads only the change-tracking columns used for conditional requests.
+     */
+    @Query("SELECT cs.id AS id, cs.updatedAt AS updatedAt, cs.version AS version " +
+           "FROM ComputerSystem cs WHERE cs.hostname = :hostname")
+    Optional<ComputerSystemVersion> findVersionByHostname(@Param("hostname") String hostname);
+
     Optional<ComputerSystem> findByMacAddress(String macAddress);
 
     Optional<ComputerSystem> findByIpAddress(String ipAddress);
 
-    @Query("SELECT cs FROM ComputerSystem cs WHERE " +
-           "(:hostname IS NULL OR cs.hostname LIKE %:hostname%) AND " +
-           "(:department IS NULL OR cs.department = :department) AND " +
-           "(:userId IS NULL OR cs.systemUser.id = :userId)")
-    Page<ComputerSystem> findByFilters(
+    /**
+     * Resolves hostname, MAC and IP uniqueness in a single round trip.
+     * Returns every existing system holding at least one of the given keys;
+     * callers inspect the projection to determine which key collided.
+     *
+     * Written as a UNION rather than OR so that each branch is an index
+     * lookup on its unique key; H2 cannot use an index for an OR across
+     * different columns and would scan the table.
+     */
+    @Query("SELECT cs.id AS id, cs.hostname AS hostname, " +
+           "cs.macAddress AS macAddress, cs.ipAddress AS ipAddress " +
+           "FROM ComputerSystem cs WHERE cs.hostname = :hostname " +
+           "UNION SELECT cs.id AS id, cs.hostname AS hostname, " +
+           "cs.macAddress AS macAddress, cs.ipAddress AS ipAddress " +
+           "FROM ComputerSystem cs WHERE cs.macAddress = :macAddress " +
+           "UNION SELECT cs.id AS id, cs.hostname AS hostname, " +
+           "cs.macAddress AS macAddress, cs.ipAddress AS ipAddress " +
+           "FROM ComputerSystem cs WHERE cs.ipAddress = :ipAddress")
+    List<ComputerSystemKeys> findUniqueKeyConflicts(
             @Param("hostname") String hostname,
-            @Param("department") String department,
-            @Param("userId") Long userId,
-            Pageable pageable
+            @Param("macAddress") String macAddress,
+            @Param("ipAddress") String ipAddress
     );
 
-    // In future methods be conscious potential of n+1 problem when using JPA
-    // and fetching related entities. A work around for this would be to use
-    // fetch joins or entity graphs.
+    /**
+     * Set-based variant of {@link #findUniqueKeyConflicts} used by bulk writes.
+     * Callers are expected to keep each collection within a bounded chunk size.
+     */
+    @Query("SELECT cs.id AS id, cs.hostname AS hostname, " +
+           "cs.macAddress AS macAddress, cs.ipAddress AS ipAddress " +
+           "FROM ComputerSystem cs WHERE cs.hostname IN :hostnames " +
+           "UNION SELECT cs.id AS id, cs.hostname AS hostname, " +
+           "cs.macAddress AS macAddress, cs.ipAddress AS ipAddress " +
+           "FROM ComputerSystem cs WHERE cs.macAddress IN :macAddresses " +
+           "UNION SELECT cs.id AS id, cs.hostname AS hostname, " +
+           "cs.macAddress AS macAddress, cs.ipAddress AS ipAddress " +
+           "FROM ComputerSystem cs WHERE cs.ipAddress IN :ipAddresses")
+    List<ComputerSystemKeys> findUniqueKeyConflictsIn(
+            @Param("hostnames") Collection<String> hostnames,
+            @Param("macAddresses") Collection<String> macAddresses,
+            @Param("ipAddresses") Collection<String> ipAddresses
+    );
+
+    /**
+     * Return which of the given IDs exist, without loading the systems.
+     */
+    @Query("SELECT cs.id FROM ComputerSystem cs WHERE cs.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes the given systems in a single statement.
+     * Bypasses the persistence context, so it is flushed before and cleared after.
+     * Hibernate removes the matching hostname gram rows before the systems.
+     *
+     * @return Number of rows deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ComputerSystem cs WHERE cs.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // systemUser and createdBy are lazy. Reading their IDs is free, but any
+    // other user attribute triggers one select per system (n+1); add an
+    // entity graph or a fetch join for paths that need them.
+    // ComputerSystemStatementCountIT pins the statement count per service method.
 }
@@ -1,23 +1,39 @@
 package com.demo.application.computersystem;
 
 import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.domain.computersystem.ComputerSystemKeys;
 import com.demo.domain.computersystem.ComputerSystemMapper;
-import com.demo.domain.user.User;
+import com.demo.domain.computersystem.ComputerSystemVersion;
+import com.demo.domain.computersystem.HostnameGrams;
 import com.demo.application.user.UserRepository;
+import com.demo.shared.security.AccessScope;
+import com.demo.shared.security.CurrentUserService;
 import com.demo.shared.exception.DuplicateResourceException;
+import com.demo.shared.exception.InvalidRequestException;
+import com.demo.shared.exception.PreconditionFailedException;
 import com.demo.shared.exception.ResourceNotFoundException;
+import com.demo.shared.pagination.CursorPage;
+import com.demo.shared.pagination.KeysetCursor;
 import com.demo.domain.computersystem.ComputerSystem;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Service layer for managing computer systems with circuit breaker protection.
@@ -39,9 +55,21 @@ import java.util.Collections;
 public class ComputerSystemService {
 
     private static final String NOT_FOUND = " not found";
+
+    /**
+     * Properties accepted as keyset sort keys. Each must be non-null and
+     * String-valued (see KeysetCursor); id is always the tie-breaker. Only
+     * keys backed by an index that also orders by id are listed, so every
+     * page is an index range scan: hostname is unique, and department has
+     * idx_computer_systems_department_id.
+     */
+    static final List<String> SCROLLABLE_PROPERTIES = List.of("id", "hostname", "department");
+
     private final ComputerSystemRepository repository;
     private final UserRepository userRepository;
     private final ComputerSystemMapper mapper;
+    private final ComputerSystemCache computerSystemCache;
+    private final CurrentUserService currentUserService;
 
     /**
      * Creates new computer system with database circuit breaker protection.
@@ -49,29 +77,30 @@ public class ComputerSystemService {
      * Circuit breaker opens if 60% of the last 20 calls fail or are slow (>3s).
      * If circuit opens, returns empty result gracefully instead of timing out.
      *
+     * Uniqueness is resolved with one query; the insert itself is the only other
+     * round trip. Constraint violations raised by the insert (e.g. a concurrent
+     * create of the same hostname) are mapped to the same exceptions.
+     *
+     * No cache invalidation is needed: ComputerSystemCache never caches misses,
+     * so nothing is cached for the new ID or hostname yet.
+     *
+     * The authenticated user, if they have a user account, is recorded as
+     * createdBy; that is what the OWN permission scope matches.
+     *
      * @param dto Computer system data transfer object
      * @return Saved computer system DTO
      * @throws DuplicateResourceException If hostname, MAC, or IP already exists
+     * @throws ResourceNotFoundException If the assigned user does not exist
      */
     @CircuitBreaker(name = "databaseQuery", fallbackMethod = "createComputerSystemFallback")
     public ComputerSystemDto createComputerSystem(ComputerSystemDto dto) {
-        if (repository.findByHostname(dto.getHostname()).isPresent()) {
-            throw new DuplicateResourceException("Computer system with hostname " + dto.getHostname() + " already exists");
-        }
-
-        if (repository.findByMacAddress(dto.getMacAddress()).isPresent()) {
-            throw new DuplicateResourceException("Computer system with MAC address " + dto.getMacAddress() + " already exists");
-        }
-
-        if (repository.findByIpAddress(dto.getIpAddress()).isPresent()) {
-            throw new DuplicateResourceException("Computer system with IP address " + dto.getIpAddress() + " already exists");
-        }
+        assertUniqueKeys(dto, null);
 
         ComputerSystem computerSystem = mapper.toEntity(dto);
-        User assignedUser = userRepository.findById(dto.getUserId())
-                .orElseThrow(() -> new ResourceNotFoundException("User with id " + dto.getUserId() + NOT_FOUND));
-        computerSystem.setSystemUser(assignedUser);
-        ComputerSystem savedSystem = repository.save(computerSystem);
+        // A reference avoids a SELECT; an unknown user surfaces as a foreign key violation on insert
+        computerSystem.setSystemUser(userRepository.getReferenceById(dto.getUserId()));
+        currentUserService.getCurrentUser().ifPresent(computerSystem::setCreatedBy);
+        ComputerSystem savedSystem = saveAndFlush(computerSystem, dto);
 
         return mapper.toDto(savedSystem);
     }
@@ -112,22 +141,24 @@ public class ComputerSystemService {
     }
 
     /**
-     * Retrieves all computer systems with pagination and circuit breaker protection.
+     * Retrieves all computer systems the caller may read, with pagination and circuit breaker protection.
+     * Reads DTOs directly without hydrating entities (see ComputerSystemDtoRepository).
      *
+     * @param access Caller's READ access; its scopes are applied in the query
      * @param pageable Pagination parameters
      * @return Page of computer systems
      */
     @Transactional(readOnly = true)
     @CircuitBreaker(name = "databaseQuery", fallbackMethod = "getAllComputerSystemsFallback")
-    public Page<ComputerSystemDto> getAllComputerSystems(Pageable pageable) {
-        return repository.findAll(pageable).map(mapper::toDto);
+    public Page<ComputerSystemDto> getAllComputerSystems(AccessScope access, Pageable pageable) {
+        return repository.findAllAsDto(ComputerSystemSpecifications.withinScope(access), pageable);
     }
 
     /**
      * Fallback for getAllComputerSystems when database circuit breaker is OPEN.
      * Returns empty page to indicate service unavailable.
      */
-    public Page<ComputerSystemDto> getAllComputerSystemsFallback(Pageable pageable,
+    public Page<ComputerSystemDto> getAllComputerSystemsFallback(AccessScope access, Pageable pageable,
                                                                 CallNotPermittedException ex) {
         log.error("Database circuit breaker OPEN: Cannot retrieve computer systems - database unavailable");
         // Return empty page instead of error
@@ -137,7 +168,13 @@ public class ComputerSystemService {
     /**
      * Filters computer systems by hostname, department, or user ID with circuit breaker protection.
      *
-     * @param hostname Hostname to filter by
+     * Only supplied filters are added to the query, together with the
+     * caller's access scope. Hostname terms are matched case-insensitively
+     * through the hostname trigram index.
+     *
+     * @param access Caller's READ access; its scopes are applied in the query
+     * @param hostname Hostname term to filter by
+     * @param hostnameMatch Whether the term must be a prefix of or contained in the hostname
      * @param department Department to filter by
      * @param userId User ID to filter by
      * @param pageable Pagination parameters
@@ -146,11 +183,16 @@ public class ComputerSystemService {
     @Transactional(readOnly = true)
     @CircuitBreaker(name = "databaseQuery", fallbackMethod = "filterComputerSystemsFallback")
     public Page<ComputerSystemDto> filterComputerSystems(
+            AccessScope access,
             String hostname,
+            HostnameGrams.Match hostnameMatch,
             String department,
             Long userId,
             Pageable pageable) {
-        return repository.findByFilters(hostname, department, userId, pageable).map(mapper::toDto);
+        return repository.findAllAsDto(
+                ComputerSystemSpecifications.matching(hostname, hostnameMatch, department, userId)
+                        .and(ComputerSystemSpecifications.withinScope(access)),
+                pageable);
     }
 
     /**
@@ -158,7 +200,9 @@ public class ComputerSystemService {
      * Returns empty page when database is unavailable.
      */
     public Page<ComputerSystemDto> filterComputerSystemsFallback(
+            AccessScope access,
             String hostname,
+            HostnameGrams.Match hostnameMatch,
             String department,
             Long userId,
             Pageable pageable,
@@ -168,40 +212,190 @@ public class ComputerSystemService {
         return new PageImpl<>(Collections.emptyList(), pageable, 0);
     }
 
+    /**
+     * Lists computer systems with keyset (seek) pagination and optional filters.
+     *
+     * Each page is read with WHERE (sortKey, id) > (last sortKey, last id)
+     * ORDER BY sortKey, id LIMIT size, so latency does not grow with depth and
+     * no COUNT query is issued.
+     *
+     * @param access Caller's READ access; its scopes are applied in the query
+     * @param hostname Hostname substring to filter by, or null
+     * @param department Department to filter by, or null
+     * @param userId User ID to filter by, or null
+     * @param order Sort key and direction; id is appended as tie-breaker
+     * @param size Maximum items per page
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @return Page of computer systems with the cursor for the next page
+     * @throws InvalidRequestException If the sort property is not supported or the cursor is invalid
+     */
+    @Transactional(readOnly = true)
+    @CircuitBreaker(name = "databaseQuery", fallbackMethod = "scrollComputerSystemsFallback")
+    public CursorPage<ComputerSystemDto> scrollComputerSystems(
+            AccessScope access,
+            String hostname,
+            String department,
+            Long userId,
+            Sort.Order order,
+            int size,
+            String cursor) {
+        if (!SCROLLABLE_PROPERTIES.contains(order.getProperty())) {
+            throw new InvalidRequestException("Unsupported sort property '" + order.getProperty()
+                    + "' - use one of " + String.join(", ", SCROLLABLE_PROPERTIES));
+        }
+
+        KeysetScrollPosition position = KeysetCursor.decode(cursor, order);
+        Sort sort = KeysetCursor.ID.equals(order.getProperty())
+                ? Sort.by(order)
+                : Sort.by(order, new Sort.Order(order.getDirection(), KeysetCursor.ID));
+
+        Window<ComputerSystem> window = repository.findBy(
+                ComputerSystemSpecifications.matching(hostname, department, userId)
+                        .and(ComputerSystemSpecifications.withinScope(access)),
+                query -> query.sortBy(sort).limit(size).scroll(position));
+
+        String nextCursor = window.hasNext()
+                ? KeysetCursor.encode(order, (KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+
+        return CursorPage.<ComputerSystemDto>builder()
+                .items(window.map(mapper::toDto).getContent())
+                .size(window.size())
+                .hasNext(window.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Fallback for scrollComputerSystems when database circuit breaker is OPEN.
+     * Returns an empty last page when database is unavailable.
+     */
+    public CursorPage<ComputerSystemDto> scrollComputerSystemsFallback(
+            AccessScope access,
+            String hostname,
+            String department,
+            Long userId,
+            Sort.Order order,
+            int size,
+            String cursor,
+            CallNotPermittedException ex) {
+        log.error("Database circuit breaker OPEN: Cannot scroll computer systems - database unavailable");
+        return CursorPage.<ComputerSystemDto>builder()
+                .items(Collections.emptyList())
+                .build();
+    }
+
+    /**
+     * Reads only the ETag inputs of a computer system, for conditional GETs.
+     *
+     * @param id Computer system ID
+     * @return ID and last modification time
+     * @throws ResourceNotFoundException If not found
+     */
+    @Transactional(readOnly = true)
+    @CircuitBreaker(name = "databaseQuery", fallbackMethod = "getComputerSystemVersionByIdFallback")
+    public ComputerSystemVersion getComputerSystemVersionById(Long id) {
+        return repository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Computer system with id " + id + NOT_FOUND));
+    }
+
+    /**
+     * Fallback for getComputerSystemVersionById when database circuit breaker is OPEN.
+     */
+    public ComputerSystemVersion getComputerSystemVersionByIdFallback(Long id,
+                                                                     CallNotPermittedException ex) {
+        log.error("Database circuit breaker OPEN: Cannot retrieve computer system {} - database unavailable", id);
+        throw new RuntimeException("Database service temporarily unavailable. Please try again later.");
+    }
+
+    /**
+     * Reads only the ETag inputs of a computer system, for conditional GETs.
+     *
+     * @param hostname Computer system hostname
+     * @return ID and last modification time
+     * @throws ResourceNotFoundException If not found
+     */
+    @Transactional(readOnly = true)
+    @CircuitBreaker(name = "databaseQuery", fallbackMethod = "getComputerSystemVersionByHostnameFallback")
+    public ComputerSystemVersion getComputerSystemVersionByHostname(String hostname) {
+        return repository.findVersionByHostname(hostname)
+                .orElseThrow(() -> new ResourceNotFoundException("Computer system with hostname " + hostname + NOT_FOUND));
+    }
+
+    /**
+     * Fallback for getComputerSystemVersionByHostname when database circuit breaker is OPEN.
+     */
+    public ComputerSystemVersion getComputerSystemVersionByHostnameFallback(String hostname,
+                                                                           CallNotPermittedException ex) {
+        log.error("Database circuit breaker OPEN: Cannot retrieve computer system {} - database unavailable", hostname);
+        throw new RuntimeException("Database service temporarily unavailable. Please try again later.");
+    }
+
+    /**
+     * Checks that a computer system lies within the caller's access, for
+     * single-system lookups. Those are served from ComputerSystemCache,
+     * which is shared by all callers, so the scope is checked per request
+     * with one EXISTS query; unrestricted access needs no query at all.
+     *
+     * Systems outside the caller's access are reported as not found, so
+     * their existence is not disclosed.
+     *
+     * @param id Computer system ID
+     * @param access Caller's READ access
+     * @throws ResourceNotFoundException If not found or not within access
+     */
+    @Transactional(readOnly = true)
+    @CircuitBreaker(name = "databaseQuery", fallbackMethod = "requireWithinScopeFallback")
+    public void requireWithinScope(Long id, AccessScope access) {
+        if (access.isUnrestricted()) {
+            return;
+        }
+        if (!repository.exists(ComputerSystemSpecifications.hasId(id)
+                .and(ComputerSystemSpecifications.withinScope(access)))) {
+            throw new ResourceNotFoundException("Computer system with id " + id + NOT_FOUND);
+        }
+    }
+
+    /**
+     * Fallback for requireWithinScope when database circuit breaker is OPEN.
+     */
+    public void requireWithinScopeFallback(Long id, AccessScope access,
+                                           CallNotPermittedException ex) {
+        log.error("Database circuit breaker OPEN: Cannot check access to computer system {} - database unavailable", id);
+        throw new RuntimeException("Database service temporarily unavailable. Please try again later.");
+    }
+
     /**
      * Updates computer system with circuit breaker protection.
+     * Evicts the system from ComputerSystemCache, now and after commit.
+     *
+     * The write is optimistically locked: if dto carries a version it must
+     * match the stored one, and the UPDATE only applies to the version that
+     * was read, so a concurrent writer between read and flush is detected too.
      *
      * @param id Computer system ID to update
      * @param dto Updated computer system data
+     * @param ifMatch If-Match header value, or null for an unconditional update
      * @return Updated computer system DTO
-     * @throws ResourceNotFoundException If system not found
+     * @throws ResourceNotFoundException If system or assigned user not found
+     * @throws PreconditionFailedException If ifMatch does not match the current ETag
+     * @throws ObjectOptimisticLockingFailureException If the system was changed concurrently
+     * @throws DuplicateResourceException If hostname, MAC, or IP belongs to another system
      */
     @CircuitBreaker(name = "databaseQuery", fallbackMethod = "updateComputerSystemFallback")
-    public ComputerSystemDto updateComputerSystem(Long id, ComputerSystemDto dto) {
+    public ComputerSystemDto updateComputerSystem(Long id, ComputerSystemDto dto, String ifMatch) {
         ComputerSystem computerSystem = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Computer system with id " + id + NOT_FOUND));
 
-        if (!computerSystem.getHostname().equals(dto.getHostname()) &&
-            repository.findByHostname(dto.getHostname()).isPresent()) {
-            throw new DuplicateResourceException("Computer system with hostname " + dto.getHostname() + " already exists");
-        }
-
-        if (!computerSystem.getMacAddress().equals(dto.getMacAddress()) &&
-            repository.findByMacAddress(dto.getMacAddress()).isPresent()) {
-            throw new DuplicateResourceException("Computer system with MAC address " + dto.getMacAddress() + " already exists");
-        }
-
-        if (!computerSystem.getIpAddress().equals(dto.getIpAddress()) &&
-            repository.findByIpAddress(dto.getIpAddress()).isPresent()) {
-            throw new DuplicateResourceException("Computer system with IP address " + dto.getIpAddress() + " already exists");
-        }
+        assertIfMatch(ifMatch, id, computerSystem.getVersion());
+        assertVersion(dto.getVersion(), computerSystem);
+        assertUniqueKeys(dto, id);
 
         mapper.updateEntityFromDto(dto, computerSystem);
-        User assignedUser = userRepository.findById(dto.getUserId())
-                .orElseThrow(() -> new ResourceNotFoundException("User with id " + dto.getUserId() + NOT_FOUND));
-        computerSystem.setSystemUser(assignedUser);
+        computerSystem.setSystemUser(userRepository.getReferenceById(dto.getUserId()));
 
-        ComputerSystem updatedSystem = repository.save(computerSystem);
+        ComputerSystem updatedSystem = saveAndFlush(computerSystem, dto);
+        computerSystemCache.evict(id);
 
         return mapper.toDto(updatedSystem);
     }
@@ -209,7 +403,7 @@ public class ComputerSystemService {
     /**
      * Fallback for updateComputerSystem when database circuit breaker is OPEN.
      */
-    public ComputerSystemDto updateComputerSystemFallback(Long id, ComputerSystemDto dto,
+    public ComputerSystemDto updateComputerSystemFallback(Long id, ComputerSystemDto dto, String ifMatch,
                                                          CallNotPermittedException ex) {
         log.error("Database circuit breaker OPEN: Cannot update computer system {} - database unavailable", id);
         throw new RuntimeException("Database service temporarily unavailable. Please try again later.");
@@ -217,23 +411,33 @@ public class ComputerSystemService {
 
     /**
      * Deletes computer system with circuit breaker protection.
+     * Evicts the system from ComputerSystemCache, now and after commit.
      *
      * @param id Computer system ID to delete
+     * @param ifMatch If-Match header value, or null for an unconditional delete
      * @throws ResourceNotFoundException If system not found
+     * @throws PreconditionFailedException If ifMatch does not match the current ETag
      */
     @CircuitBreaker(name = "databaseQuery", fallbackMethod = "deleteComputerSystemFallback")
-    public void deleteComputerSystem(Long id) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("Computer system with id " + id + NOT_FOUND);
+    public void deleteComputerSystem(Long id, String ifMatch) {
+        if (ifMatch == null) {
+            if (!repository.existsById(id)) {
+                throw new ResourceNotFoundException("Computer system with id " + id + NOT_FOUND);
+            }
+        } else {
+            ComputerSystemVersion current = repository.findVersionById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Computer system with id " + id + NOT_FOUND));
+            assertIfMatch(ifMatch, id, current.getVersion());
         }
 
         repository.deleteById(id);
+        computerSystemCache.evict(id);
     }
 
     /**
      * Fallback for deleteComputerSystem when database circuit breaker is OPEN.
      */
-    public void deleteComputerSystemFallback(Long id,
+    public void deleteComputerSystemFallback(Long id, String ifMatch,
                                             CallNotPermittedException ex) {
         log.error("Database circuit breaker OPEN: Cannot delete computer system {} - database unavailable", id);
         throw new RuntimeException("Database service temporarily unavailable. Please try again later.");
@@ -249,10 +453,8 @@ public class ComputerSystemService {
     @Transactional(readOnly = true)
     @CircuitBreaker(name = "databaseQuery", fallbackMethod = "getComputerSystemByHostnameFallback")
     public ComputerSystemDto getComputerSystemByHostname(String hostname) {
-        ComputerSystem computerSystem = repository.findByHostname(hostname)
+        return repository.findDtoByHostname(hostname)
                 .orElseThrow(() -> new ResourceNotFoundException("Computer system with hostname " + hostname + NOT_FOUND));
-
-        return mapper.toDto(computerSystem);
     }
 
     /**
@@ -263,5 +465,125 @@ public class ComputerSystemService {
         log.error("Database circuit breaker OPEN: Cannot retrieve computer system {} - database unavailable", hostname);
         throw new RuntimeException("Database service temporarily unavailable. Please try again later.");
     }
-}
 
+    /**
+     * Rejects a conditional write whose If-Match does not name the current ETag.
+     *
+     * @param ifMatch If-Match header value, or null if the write is unconditional
+     * @param id Computer system ID
+     * @param version Current version
+     * @throws PreconditionFailedException If the precondition does not hold
+     */
+    private static void assertIfMatch(String ifMatch, Long id, Long version) {
+        if (ifMatch != null && !ComputerSystemETags.matches(ifMatch, ComputerSystemETags.of(id, version))) {
+            throw new PreconditionFailedException("Computer system with id " + id
+                    + " was modified since it was read - fetch it again and retry");
+        }
+    }
+
+    /**
+     * Rejects an update based on a stale copy of the system.
+     *
+     * @param expectedVersion Version the client read, or null if the update is unconditional
+     * @param computerSystem Managed entity as currently stored
+     * @throws ObjectOptimisticLockingFailureException If the versions differ
+     */
+    private static void assertVersion(Long expectedVersion, ComputerSystem computerSystem) {
+        if (expectedVersion != null && !expectedVersion.equals(computerSystem.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(ComputerSystem.class, computerSystem.getId());
+        }
+    }
+
+    /**
+     * Checks hostname, MAC and IP uniqueness with a single query.
+     * Collisions are reported in hostname, MAC, IP order so error messages
+     * match the original per-key lookups.
+     *
+     * @param dto Candidate values
+     * @param excludeId ID of the system being updated (its own keys never collide), or null on create
+     * @throws DuplicateResourceException If any key is held by another system
+     */
+    private void assertUniqueKeys(ComputerSystemDto dto, Long excludeId) {
+        List<ComputerSystemKeys> conflicts = repository.findUniqueKeyConflicts(
+                dto.getHostname(), dto.getMacAddress(), dto.getIpAddress());
+
+        boolean hostnameTaken = false;
+        boolean macTaken = false;
+        boolean ipTaken = false;
+        for (ComputerSystemKeys existing : conflicts) {
+            if (existing.getId().equals(excludeId)) {
+                continue;
+            }
+            hostnameTaken |= dto.getHostname().equals(existing.getHostname());
+            macTaken |= dto.getMacAddress().equals(existing.getMacAddress());
+            ipTaken |= dto.getIpAddress().equals(existing.getIpAddress());
+        }
+
+        if (hostnameTaken) {
+            throw new DuplicateResourceException(hostnameExists(dto.getHostname()));
+        }
+        if (macTaken) {
+            throw new DuplicateResourceException(macAddressExists(dto.getMacAddress()));
+        }
+        if (ipTaken) {
+            throw new DuplicateResourceException(ipAddressExists(dto.getIpAddress()));
+        }
+    }
+
+    /**
+     * Saves and flushes so constraint violations surface here rather than at commit.
+     * This is the safety net for concurrent writers that pass the pre-check at the same time.
+     */
+    private ComputerSystem saveAndFlush(ComputerSystem computerSystem, ComputerSystemDto dto) {
+        try {
+            return repository.saveAndFlush(computerSystem);
+        } catch (DataIntegrityViolationException ex) {
+            throw translateConstraintViolation(ex, dto);
+        }
+    }
+
+    /**
+     * Maps a violated database constraint back to the same exception the
+     * pre-insert checks would have raised.
+     */
+    private RuntimeException translateConstraintViolation(DataIntegrityViolationException ex,
+                                                          ComputerSystemDto dto) {
+        String constraint = violatedConstraintName(ex);
+
+        if (constraint.contains(ComputerSystem.UK_HOSTNAME)) {
+            return new DuplicateResourceException(hostnameExists(dto.getHostname()), ex);
+        }
+        if (constraint.contains(ComputerSystem.UK_MAC_ADDRESS)) {
+            return new DuplicateResourceException(macAddressExists(dto.getMacAddress()), ex);
+        }
+        if (constraint.contains(ComputerSystem.UK_IP_ADDRESS)) {
+            return new DuplicateResourceException(ipAddressExists(dto.getIpAddress()), ex);
+        }
+        if (constraint.contains(ComputerSystem.FK_SYSTEM_USER)) {
+            return new ResourceNotFoundException("User with id " + dto.getUserId() + NOT_FOUND, ex);
+        }
+        return ex;
+    }
+
+    private static String violatedConstraintName(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException cve && cve.getConstraintName() != null) {
+                return cve.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        String message = ex.getMostSpecificCause().getMessage();
+        return message == null ? "" : message.toLowerCase(Locale.ROOT);
+    }
+
+    private static String hostnameExists(String hostname) {
+        return "Computer system with hostname " + hostname + " already exists";
+    }
+
+    private static String macAddressExists(String macAddress) {
+        return "Computer system with MAC address " + macAddress + " already exists";
+    }
+
+    private static String ipAddressExists(String ipAddress) {
+        return "Computer system with IP address " + ipAddress + " already exists";
+    }
+}
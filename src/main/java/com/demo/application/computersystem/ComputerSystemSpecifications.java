@@ -0,0 +1,133 @@
+package com.demo.application.computersystem;
+
+import com.demo.domain.computersystem.ComputerSystem;
+import com.demo.domain.computersystem.HostnameGrams;
+import com.demo.shared.security.AccessScope;
+import com.demo.shared.security.PermissionScope;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Composable filter predicates for computer system queries.
+ *
+ * Each factory returns an unrestricted specification when its argument is
+ * null, so callers can combine all optional filters unconditionally; only
+ * the supplied filters end up in the generated WHERE clause.
+ */
+final class ComputerSystemSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ComputerSystemSpecifications() {
+    }
+
+    /**
+     * Combines the optional listing filters, matching hostname as a substring.
+     */
+    static Specification<ComputerSystem> matching(String hostname, String department, Long userId) {
+        return matching(hostname, HostnameGrams.Match.CONTAINS, department, userId);
+    }
+
+    /**
+     * Combines the optional listing filters.
+     */
+    static Specification<ComputerSystem> matching(String hostname, HostnameGrams.Match match,
+                                                  String department, Long userId) {
+        return hostnameMatches(hostname, match)
+                .and(departmentEquals(department))
+                .and(assignedTo(userId));
+    }
+
+    /**
+     * Case-insensitive hostname prefix or substring match.
+     *
+     * Candidates are selected through the trigram index as the systems
+     * holding every gram of the term; the LIKE then only has to verify those
+     * rows. Substring terms too short to have a trigram fall back to a plain
+     * LIKE scan.
+     */
+    static Specification<ComputerSystem> hostnameMatches(String hostname, HostnameGrams.Match match) {
+        if (hostname == null) {
+            return Specification.unrestricted();
+        }
+        String term = HostnameGrams.normalize(hostname);
+        String pattern = (match == HostnameGrams.Match.PREFIX ? "" : "%") + escapeLike(term) + "%";
+        Set<String> grams = HostnameGrams.query(term, match);
+
+        return (root, query, cb) -> {
+            Predicate like = cb.like(cb.lower(root.<String>get("hostname")), pattern, LIKE_ESCAPE);
+            if (grams.isEmpty()) {
+                return like;
+            }
+
+            Subquery<Long> candidates = query.subquery(Long.class);
+            Root<ComputerSystem> system = candidates.from(ComputerSystem.class);
+            Join<ComputerSystem, String> gram = system.join("hostnameGrams");
+            candidates.select(system.get("id"))
+                    .where(gram.in(grams))
+                    .groupBy(system.get("id"))
+                    .having(cb.equal(cb.countDistinct(gram), (long) grams.size()));
+
+            return cb.and(root.get("id").in(candidates), like);
+        };
+    }
+
+    static Specification<ComputerSystem> hasId(Long id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    static Specification<ComputerSystem> departmentEquals(String department) {
+        if (department == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.equal(root.get("department"), department);
+    }
+
+    static Specification<ComputerSystem> assignedTo(Long userId) {
+        if (userId == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.equal(root.get("systemUser").get("id"), userId);
+    }
+
+    /**
+     * Restricts results to the systems a caller may access, as SQL predicates
+     * instead of per-object checks: ALL adds nothing, DEPARTMENT adds
+     * department = caller's department, OWN adds created_by = caller's id
+     * (compared on the foreign key column, so createdBy is neither joined nor
+     * loaded). Several scopes are OR-ed; no scope matches no rows, and neither
+     * does a scope whose caller attribute is unknown.
+     *
+     * @param access Granted scopes and the caller attributes they apply to
+     */
+    static Specification<ComputerSystem> withinScope(AccessScope access) {
+        if (access.isUnrestricted()) {
+            return Specification.unrestricted();
+        }
+        String department = access.scopes().contains(PermissionScope.DEPARTMENT) ? access.department() : null;
+        Long userId = access.scopes().contains(PermissionScope.OWN) ? access.userId() : null;
+
+        return (root, query, cb) -> {
+            List<Predicate> granted = new ArrayList<>(2);
+            if (department != null) {
+                granted.add(cb.equal(root.get("department"), department));
+            }
+            if (userId != null) {
+                granted.add(cb.equal(root.get("createdBy").get("id"), userId));
+            }
+            // An empty OR is always false
+            return cb.or(granted.toArray(new Predicate[0]));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
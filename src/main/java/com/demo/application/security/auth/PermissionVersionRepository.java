@@ -0,0 +1,36 @@
+package com.demo.application.security.auth;
+
+import com.demo.domain.security.permissionversion.PermissionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Repository for PermissionVersion stamps.
+ */
+@Repository
+public interface PermissionVersionRepository extends JpaRepository<PermissionVersion, Long> {
+
+    /**
+     * Increments the version of the given roles in a single statement.
+     * Roles without a row are not touched.
+     *
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE PermissionVersion v SET v.version = v.version + 1, v.updatedAt = :now "
+            + "WHERE v.roleName IN :roleNames")
+    int incrementVersions(@Param("roleNames") Collection<String> roleNames, @Param("now") LocalDateTime now);
+
+    /**
+     * Return which of the given role names have a row.
+     */
+    @Query("SELECT v.roleName FROM PermissionVersion v WHERE v.roleName IN :roleNames")
+    Set<String> findExistingRoleNames(@Param("roleNames") Collection<String> roleNames);
+}
@@ -9,7 +9,8 @@ import com.demo.domain.security.permission.PermissionMapper;
 import com.demo.domain.security.rolepermission.RolePermission;
 import com.demo.shared.exception.DuplicateResourceException;
 import com.demo.shared.exception.ResourceNotFoundException;
-import com.demo.shared.security.RolePermissionService;
+import com.demo.shared.security.PermissionInvalidation;
+import com.demo.shared.security.PermissionInvalidationBus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +21,11 @@ import java.util.stream.Collectors;
 
 /**
  * Service for managing roles and permissions.
+ *
+ * Every change that affects what a role may do is published on the
+ * PermissionInvalidationBus with the names of the affected roles, inside the
+ * changing transaction. Each instance's RolePermissionService then reloads
+ * those roles once the change has committed.
  */
 @Service
 @Transactional
@@ -30,7 +36,7 @@ public class RoleManagementService {
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
     private final RolePermissionRepository rolePermissionRepository;
-    private final RolePermissionService rolePermissionService;
+    private final PermissionInvalidationBus invalidationBus;
     private final RoleMapper roleMapper;
     private final PermissionMapper permissionMapper;
     
@@ -69,14 +75,15 @@ public class RoleManagementService {
         if (!role.getName().equals(dto.getName()) && roleRepository.existsByName(dto.getName())) {
             throw new DuplicateResourceException("Role with name '" + dto.getName() + "' already exists");
         }
+        String previousName = role.getName();
         
         roleMapper.updateEntityFromDto(dto, role);
         
         Role updated = roleRepository.save(role);
         log.info("Updated role: {}", updated.getName());
         
-        // Reload cache after role update
-        rolePermissionService.reloadCache();
+        // A rename moves the permissions to the new name
+        invalidationBus.publish(PermissionInvalidation.ofRoles(previousName, updated.getName()));
         
         return roleMapper.toDto(updated);
     }
@@ -91,8 +98,7 @@ public class RoleManagementService {
         roleRepository.delete(role);
         log.info("Deleted role: {}", role.getName());
         
-        // Reload cache after role deletion
-        rolePermissionService.reloadCache();
+        invalidationBus.publish(PermissionInvalidation.ofRoles(role.getName()));
     }
 
     /**
@@ -143,8 +149,7 @@ public class RoleManagementService {
         log.info("Updated permission: {} {} {}", 
             updated.getResourceType(), updated.getOperation(), updated.getScope());
         
-        // Reload cache after permission update
-        rolePermissionService.reloadCache();
+        invalidationBus.publish(PermissionInvalidation.ofRoles(roleNamesWith(updated)));
         
         return permissionMapper.toDto(updated);
     }
@@ -152,6 +157,7 @@ public class RoleManagementService {
     public void deletePermission(Long id) {
         Permission permission = permissionRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Permission with id " + id + " not found"));
+        List<String> affectedRoles = roleNamesWith(permission);
         
         // Delete all role-permission mappings
         rolePermissionRepository.deleteByPermission(permission);
@@ -160,8 +166,7 @@ public class RoleManagementService {
         log.info("Deleted permission: {} {} {}", 
             permission.getResourceType(), permission.getOperation(), permission.getScope());
         
-        // Reload cache after permission deletion
-        rolePermissionService.reloadCache();
+        invalidationBus.publish(PermissionInvalidation.ofRoles(affectedRoles));
     }
     
     // ===== Role-Permission Assignment =====
@@ -184,8 +189,7 @@ public class RoleManagementService {
         rolePermissionRepository.save(rolePermission);
         log.info("Assigned permission {} to role {}", permissionId, roleId);
         
-        // Reload cache after assignment
-        rolePermissionService.reloadCache();
+        invalidationBus.publish(PermissionInvalidation.ofRoles(role.getName()));
     }
     
     public void revokePermissionFromRole(Long roleId, Long permissionId) {
@@ -202,8 +206,7 @@ public class RoleManagementService {
         
         log.info("Revoked permission {} from role {}", permissionId, roleId);
         
-        // Reload cache after revocation
-        rolePermissionService.reloadCache();
+        invalidationBus.publish(PermissionInvalidation.ofRoles(role.getName()));
     }
     
     public List<PermissionDto> getPermissionsForRole(Long roleId) {
@@ -217,8 +220,17 @@ public class RoleManagementService {
     
     // ===== Cache Management =====
     
+    /**
+     * Reloads every role's permissions on every instance the bus reaches.
+     */
     public void reloadPermissionsCache() {
-        rolePermissionService.reloadCache();
-        log.info("Reloaded permissions cache");
+        invalidationBus.publish(PermissionInvalidation.all());
+        log.info("Requested permissions cache reload");
+    }
+    
+    private List<String> roleNamesWith(Permission permission) {
+        return rolePermissionRepository.findRolesByPermission(permission).stream()
+            .map(Role::getName)
+            .collect(Collectors.toList());
     }
 }
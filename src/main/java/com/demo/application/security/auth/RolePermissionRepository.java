@@ -4,8 +4,11 @@ import com.demo.domain.security.role.Role;
 import com.demo.domain.security.permission.Permission;
 import com.demo.domain.security.rolepermission.RolePermission;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,16 +16,36 @@ import java.util.List;
 
 /**
  * Repository for RolePermission junction entity.
+ *
+ * The permission loads used by RolePermissionService bypass the
+ * second-level cache and refresh it. Another instance's changes reach this
+ * one through the invalidation bus, but not through this instance's cache
+ * regions, which would otherwise serve the old rows until their TTL.
  */
 @Repository
 public interface RolePermissionRepository extends JpaRepository<RolePermission, Long> {
     
     /**
-     * Find all permissions for a specific role.
+     * Find all permissions for a specific role, read from the database.
      */
+    @QueryHints({
+        @QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"),
+        @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "REFRESH")
+    })
     @Query("SELECT rp.permission FROM RolePermission rp WHERE rp.role = :role")
     List<Permission> findPermissionsByRole(@Param("role") Role role);
     
+    /**
+     * Find all permissions for the role with the given name, read from the database.
+     * Empty if the role does not exist.
+     */
+    @QueryHints({
+        @QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"),
+        @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "REFRESH")
+    })
+    @Query("SELECT rp.permission FROM RolePermission rp WHERE rp.role.name = :roleName")
+    List<Permission> findPermissionsByRoleName(@Param("roleName") String roleName);
+    
     /**
      * Find all roles that have a specific permission.
      */
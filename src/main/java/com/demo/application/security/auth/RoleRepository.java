@@ -1,7 +1,10 @@
 package com.demo.application.security.auth;
 
 import com.demo.domain.security.role.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,7 +17,9 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
     
     /**
      * Find a role by its name.
+     * Served from the query cache; any write to roles invalidates the cached result.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(String name);
     
     /**
@@ -1,10 +1,9 @@
 package com.demo.application.security.config;
 
 import com.demo.application.security.db.DbUserDetailsService;
+import com.demo.application.security.filter.BearerTokenAuthenticator;
 import com.demo.application.security.filter.JwtAuthenticationFilter;
-import com.demo.application.security.jwt.JwtService;
-import com.demo.application.security.token.ApiTokenRepository;
-import com.demo.application.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -31,14 +30,11 @@ import java.util.List;
 @EnableMethodSecurity
 public class SecurityConfig {
 
-    private final JwtService jwtService;
     private final DbUserDetailsService dbUserDetailsService;
     private final ObjectProvider<ActiveDirectoryLdapAuthenticationProvider> activeDirectoryAuthenticationProvider;
 
-    public SecurityConfig(JwtService jwtService,
-                          DbUserDetailsService dbUserDetailsService,
+    public SecurityConfig(DbUserDetailsService dbUserDetailsService,
                           ObjectProvider<ActiveDirectoryLdapAuthenticationProvider> activeDirectoryAuthenticationProvider) {
-        this.jwtService = jwtService;
         this.dbUserDetailsService = dbUserDetailsService;
         this.activeDirectoryAuthenticationProvider = activeDirectoryAuthenticationProvider;
     }
@@ -72,12 +68,12 @@ public class SecurityConfig {
     /**
      * Builds the JWT authentication filter that validates Bearer tokens and
      * establishes the Spring Security context for authenticated requests.
+     * Token verification is delegated to the BearerTokenAuthenticator beans, in @Order.
      */
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(PasswordEncoder passwordEncoder,
-                                                           ApiTokenRepository apiTokenRepository,
-                                                           UserRepository userRepository) {
-        return new JwtAuthenticationFilter(jwtService, apiTokenRepository, userRepository, passwordEncoder);
+    public JwtAuthenticationFilter jwtAuthenticationFilter(List<BearerTokenAuthenticator> authenticators,
+                                                           MeterRegistry meterRegistry) {
+        return new JwtAuthenticationFilter(authenticators, meterRegistry);
     }
 
     @Bean
@@ -0,0 +1,50 @@
+package com.demo.application.security.filter;
+
+import com.demo.application.security.token.ApiTokenService;
+import com.demo.application.user.UserRepository;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Authenticates persistent API tokens (tokenId.secret) as their owner user,
+ * with the owner's role as the only authority.
+ */
+@Component
+@Order(1)
+public class ApiTokenBearerAuthenticator implements BearerTokenAuthenticator {
+    private final ApiTokenService apiTokenService;
+    private final UserRepository userRepository;
+
+    public ApiTokenBearerAuthenticator(ApiTokenService apiTokenService, UserRepository userRepository) {
+        this.apiTokenService = apiTokenService;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public String name() {
+        return "api-token";
+    }
+
+    /**
+     * Returns true for exactly two non-empty segments separated by a single dot.
+     */
+    @Override
+    public boolean supports(String token) {
+        int dot = token.indexOf('.');
+        return dot > 0 && dot < token.length() - 1 && token.indexOf('.', dot + 1) < 0;
+    }
+
+    @Override
+    public Optional<Authentication> authenticate(String token) {
+        return apiTokenService.authenticate(token)
+                .flatMap(userRepository::findById)
+                .map(user -> new UsernamePasswordAuthenticationToken(user.getUsername(), null,
+                        List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().getName()))));
+    }
+}
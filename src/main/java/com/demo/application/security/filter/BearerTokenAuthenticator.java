@@ -0,0 +1,35 @@
+package com.demo.application.security.filter;
+
+import org.springframework.security.core.Authentication;
+
+import java.util.Optional;
+
+/**
+ * Verifies one kind of Bearer token for {@link JwtAuthenticationFilter}.
+ *
+ * <p>Authenticators are Spring beans, consulted in {@code @Order}. The filter
+ * hands each token to the first authenticator whose {@link #supports(String)}
+ * accepts its shape, and to no other, so a token is never parsed by a verifier
+ * meant for a different format. {@code supports} must therefore be a cheap
+ * syntactic check that does not throw.</p>
+ */
+public interface BearerTokenAuthenticator {
+
+    /**
+     * Short name used as the metrics tag, e.g. "jwt".
+     */
+    String name();
+
+    /**
+     * Returns true if the token has the shape this authenticator verifies.
+     */
+    boolean supports(String token);
+
+    /**
+     * Verifies the token.
+     *
+     * @param token Raw Bearer token, already accepted by {@link #supports(String)}
+     * @return Authentication for the token's principal; empty if verification fails
+     */
+    Optional<Authentication> authenticate(String token);
+}
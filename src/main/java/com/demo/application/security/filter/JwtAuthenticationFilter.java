@@ -1,39 +1,36 @@
 package com.demo.application.security.filter;
 
-import com.demo.application.security.jwt.JwtService;
-import com.demo.application.security.token.ApiTokenRepository;
-import com.demo.application.user.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
-import com.nimbusds.jwt.SignedJWT;
 
 import java.io.IOException;
-import java.util.Collections;
-import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Validates Bearer JWTs and establishes authentication in the security context.
- * Falls back to persistent API tokens when JWT validation fails.
+ * Validates Bearer tokens and establishes authentication in the security context.
+ * Each token is verified by the one {@link BearerTokenAuthenticator} matching its
+ * shape: signed JWTs or persistent API tokens.
  */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private final JwtService jwtService;
-    private final ApiTokenRepository apiTokenRepository;
-    private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    static final String METRIC_NAME = "app.security.authentication";
 
-    public JwtAuthenticationFilter(JwtService jwtService, ApiTokenRepository apiTokenRepository, UserRepository userRepository, PasswordEncoder passwordEncoder) {
-        this.jwtService = jwtService;
-        this.apiTokenRepository = apiTokenRepository;
-        this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+    private final List<RegisteredAuthenticator> authenticators;
+
+    public JwtAuthenticationFilter(List<BearerTokenAuthenticator> authenticators, MeterRegistry meterRegistry) {
+        this.authenticators = authenticators.stream()
+                .map(a -> new RegisteredAuthenticator(a, meterRegistry))
+                .toList();
     }
 
     /**
@@ -41,57 +38,66 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      *
      * <p>Flow:</p>
      * <ol>
-     *   <li>If the token validates as a JWT, parse the subject and set authentication.</li>
-     *   <li>If JWT validation fails, attempt the persistent token format (tokenId.secret).</li>
-     *   <li>For persistent tokens, verify hash + expiry, then authenticate as the owner user.</li>
+     *   <li>Pick the first authenticator (in {@code @Order}) that supports the token's shape.
+     *       Tokens of no known shape are left unauthenticated without any parsing.</li>
+     *   <li>Verify the token with that authenticator only, timing the call under
+     *       app.security.authentication{authenticator, outcome}.</li>
+     *   <li>On success, set the returned authentication in the security context.</li>
      * </ol>
-     *
-     * <p>No authorities are added for JWTs here; API tokens use the owner's role.</p>
      */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String header = request.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
-            if (jwtService.validateToken(token)) {
-            // JWT path: use subject claim as principal when available
-                String principal = token;
-                try {
-                    SignedJWT jwt = SignedJWT.parse(token);
-                    if (jwt.getJWTClaimsSet().getSubject() != null) {
-                        principal = jwt.getJWTClaimsSet().getSubject();
-                    }
-                } catch (Exception ignored) { }
-
-                // JWTs do not embed authorities in this filter; downstream services use roles claim if needed
-                UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(principal, null, Collections.emptyList());
-                auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(auth);
-            }
-            else {
-                // Fallback: persistent API token format (tokenId.secret)
-                if (token.contains(".")) {
-                    String[] parts = token.split("\\.", 2);
-                    if (parts.length == 2) {
-                        String tokenId = parts[0];
-                        String secret = parts[1];
-                        apiTokenRepository.findByTokenId(tokenId).ifPresent(t -> {
-                            if (!t.isRevoked() && t.getExpiresAt() != null && t.getExpiresAt().isAfter(LocalDateTime.now())) {
-                                if (passwordEncoder.matches(secret, t.getTokenHash())) {
-                                    // Load owner user and set authentication
-                                    userRepository.findById(t.getOwnerUserId()).ifPresent(user -> {
-                                        SimpleGrantedAuthority auth = new SimpleGrantedAuthority("ROLE_" + user.getRole().getName());
-                                        UsernamePasswordAuthenticationToken a = new UsernamePasswordAuthenticationToken(user.getUsername(), null, java.util.List.of(auth));
-                                        a.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                                        SecurityContextHolder.getContext().setAuthentication(a);
-                                    });
-                                }
+            if (!token.isBlank()) {
+                for (RegisteredAuthenticator registered : authenticators) {
+                    if (registered.authenticator.supports(token)) {
+                        registered.authenticate(token).ifPresent(auth -> {
+                            if (auth instanceof AbstractAuthenticationToken details) {
+                                details.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                             }
+                            SecurityContextHolder.getContext().setAuthentication(auth);
                         });
+                        break;
                     }
                 }
             }
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * An authenticator with its success and failure timers, registered once up front.
+     */
+    private static final class RegisteredAuthenticator {
+        private final BearerTokenAuthenticator authenticator;
+        private final Timer success;
+        private final Timer failure;
+
+        private RegisteredAuthenticator(BearerTokenAuthenticator authenticator, MeterRegistry registry) {
+            this.authenticator = authenticator;
+            this.success = timer(registry, authenticator.name(), "success");
+            this.failure = timer(registry, authenticator.name(), "failure");
+        }
+
+        private Optional<Authentication> authenticate(String token) {
+            long start = System.nanoTime();
+            Optional<Authentication> result = Optional.empty();
+            try {
+                result = authenticator.authenticate(token);
+                return result;
+            } finally {
+                (result.isPresent() ? success : failure).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private static Timer timer(MeterRegistry registry, String name, String outcome) {
+            return Timer.builder(METRIC_NAME)
+                    .description("Bearer token verification time per authenticator")
+                    .tag("authenticator", name)
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+    }
 }
@@ -0,0 +1,75 @@
+package com.demo.application.security.filter;
+
+import com.demo.application.security.jwt.JwtService;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Authenticates signed JWTs (compact JWS: three base64url segments).
+ *
+ * <p>The subject claim becomes the principal. No authorities are added here;
+ * downstream services use the roles claim if needed.</p>
+ *
+ * <p>Without a configured signing key (dev fallback) JwtService accepts any
+ * token, so this authenticator then also takes tokens of any other shape that
+ * no earlier authenticator claimed.</p>
+ */
+@Component
+@Order(2)
+public class JwtBearerAuthenticator implements BearerTokenAuthenticator {
+    private final JwtService jwtService;
+
+    public JwtBearerAuthenticator(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
+    @Override
+    public String name() {
+        return "jwt";
+    }
+
+    @Override
+    public boolean supports(String token) {
+        return isCompactJws(token) || !jwtService.isSigningKeyConfigured();
+    }
+
+    @Override
+    public Optional<Authentication> authenticate(String token) {
+        return jwtService.verifyToken(token).map(claims -> {
+            String subject = claims.getSubject();
+            String principal = subject != null ? subject : token;
+            return new UsernamePasswordAuthenticationToken(principal, null, Collections.emptyList());
+        });
+    }
+
+    /**
+     * Returns true for header.payload.signature with non-empty base64url segments.
+     */
+    static boolean isCompactJws(String token) {
+        int segments = 1;
+        int segmentLength = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (segmentLength == 0 || ++segments > 3) {
+                    return false;
+                }
+                segmentLength = 0;
+            } else if (isBase64Url(c)) {
+                segmentLength++;
+            } else {
+                return false;
+            }
+        }
+        return segments == 3 && segmentLength > 0;
+    }
+
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+}
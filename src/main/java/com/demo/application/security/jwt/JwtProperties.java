@@ -12,10 +12,12 @@ public class JwtProperties {
     private String keySource;
     private String privateKey; // intentionally left blank in application.yml
     private String privateKeyPath;
+    private String additionalJwksPath;
     private String kid;
     private String alg = "RS512";
     private Duration ttl = Duration.ofHours(2);
     private Map<String, String> claims;
+    private long verifiedTokenCacheSize = 10000;
 
     public String getKeySource() {
         return keySource;
@@ -41,6 +43,14 @@ public class JwtProperties {
         this.privateKeyPath = privateKeyPath;
     }
 
+    public String getAdditionalJwksPath() {
+        return additionalJwksPath;
+    }
+
+    public void setAdditionalJwksPath(String additionalJwksPath) {
+        this.additionalJwksPath = additionalJwksPath;
+    }
+
     public String getKid() {
         return kid;
     }
@@ -72,4 +82,12 @@ public class JwtProperties {
     public void setClaims(Map<String, String> claims) {
         this.claims = claims;
     }
+
+    public long getVerifiedTokenCacheSize() {
+        return verifiedTokenCacheSize;
+    }
+
+    public void setVerifiedTokenCacheSize(long verifiedTokenCacheSize) {
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+    }
 }
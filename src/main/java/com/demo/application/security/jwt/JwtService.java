@@ -1,14 +1,29 @@
 package com.demo.application.security.jwt;
 
+import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.Ed25519Signer;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
 import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetKeyPair;
 import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 
@@ -16,18 +31,31 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
 import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
-import java.security.Security;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPrivateKey;
 import java.security.interfaces.RSAPrivateCrtKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECPublicKeySpec;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
+import org.bouncycastle.jcajce.provider.asymmetric.util.EC5Util;
 import org.bouncycastle.openssl.PEMParser;
 import org.bouncycastle.openssl.PEMKeyPair;
 import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
@@ -37,34 +65,83 @@ import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
  * Service for issuing and validating JWTs and exposing the public JWKS.
  *
  * <p>Key material is loaded once on startup from one of the supported sources
- * (keystore, PEM env var, or PEM file). The public key is exposed via JWKS so
- * gateways and clients can verify JWT signatures without needing the private key.</p>
+ * (keystore, PEM env var, or PEM file). The key type follows security.jwt.alg:
+ * RSA (RS/PS, RSA-4096 minimum), EC (ES256/ES384/ES512 on the matching curve)
+ * or Ed25519 (EdDSA). Signing with an EC or Ed25519 key costs a fraction of
+ * RSA-4096, which matters for login throughput. The public key is exposed via
+ * JWKS so gateways and clients can verify JWT signatures without needing the
+ * private key.</p>
+ *
+ * <p>Public keys listed in security.jwt.additional-jwks-path (e.g. the previous
+ * key during a rotation or algorithm change) are published in the JWKS too, and
+ * tokens whose kid names one of them are verified with it until they expire.</p>
+ *
+ * <p>Signers and verifiers are built once with the keys. Signature verification
+ * is the dominant per-request cost, so successfully verified tokens are kept in
+ * a bounded cache keyed by the SHA-256 of the token (the token itself is never
+ * stored) until their exp claim. Clients reuse a token for its whole lifetime,
+ * so only the first request per token pays for verification.</p>
+ *
+ * <p>Without a configured key the service runs in dev fallback: tokens are
+ * neither signed nor verified. A key that is configured but cannot be loaded
+ * or does not suit the algorithm fails startup instead, so a misconfiguration
+ * never switches authentication off.</p>
  */
 @Service
+@Slf4j
 public class JwtService {
     private final JwtProperties props;
     private final Environment env;
-    private RSAKey rsaJwk;
+    private final Cache<String, JWTClaimsSet> verifiedTokens;
+    private JWSAlgorithm algorithm;
+    private JWK signingJwk;
+    private JWSSigner signer;
+    private KeyVerifier signingKeyVerifier;
+    private List<JWK> publishedJwks = List.of();
+    private Map<String, KeyVerifier> verifiersByKid = Map.of();
 
     public JwtService(JwtProperties props, Environment env) {
         this.props = props;
         this.env = env;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(props.getVerifiedTokenCacheSize())
+                .expireAfter(Expiry.creating((String hash, JWTClaimsSet claims) -> untilExpiry(claims)))
+                .build();
+        algorithm = JWSAlgorithm.parse(props.getAlg());
         try {
             loadKeyMaterial();
+            if (signingJwk != null) {
+                signer = signerFor(signingJwk);
+                signingKeyVerifier = new KeyVerifier(algorithm, verifierFor(signingJwk));
+            }
         } catch (Exception e) {
-            // No key configured in environment — keep rsaJwk null (dev fallback)
+            // Key material is configured but unusable; falling back to dev mode would disable authentication
+            throw new IllegalStateException("Cannot load JWT signing key for " + algorithm, e);
+        }
+        if (signingJwk == null) {
+            log.warn("No JWT signing key configured - tokens are neither signed nor verified (dev fallback)");
+            return;
+        }
+        try {
+            loadVerificationKeys();
+        } catch (Exception e) {
+            // A broken additional JWKS must fail startup rather than fall back to dev mode
+            throw new IllegalStateException("Cannot load additional JWKs from " + props.getAdditionalJwksPath(), e);
         }
     }
 
     /**
-     * Loads RSA signing keys from one of the supported sources in priority order:
+     * Loads the signing key from one of the supported sources in priority order:
      * <ol>
      *   <li>PKCS#12 keystore (env: SECURITY_JWT_KEYSTORE_PATH/PASSWORD/KEY_ALIAS)</li>
      *   <li>PKCS#8 PEM value (env: SECURITY_JWT_PRIVATE_KEY)</li>
      *   <li>PEM file path (env: JWT_PRIVATE_KEY_PATH or app property)</li>
      * </ol>
      *
-     * <p>Enforces RSA-4096 minimum and builds an RSA JWK for signing/verification.</p>
+     * <p>The key must suit the configured algorithm; see {@link #toJwk(PrivateKey, PublicKey)}.
+     * If no source yields a key, signingJwk stays null (dev fallback). A PEM
+     * file path that does not exist counts as no source, since the default
+     * path points to a local development key that may be absent.</p>
      */
     private void loadKeyMaterial() throws Exception {
         String keySource = props.getKeySource();
@@ -80,12 +157,7 @@ public class JwtService {
                     ks.load(is, ksPassword.toCharArray());
                     // Read the private key entry using the keystore password protection
                     KeyStore.PrivateKeyEntry entry = (KeyStore.PrivateKeyEntry) ks.getEntry(keyAlias, new KeyStore.PasswordProtection(ksPassword.toCharArray()));
-                    PrivateKey priv = entry.getPrivateKey();
-                    RSAPrivateKey rsaPriv = (RSAPrivateKey) priv;
-                    RSAPublicKey rsaPub = (RSAPublicKey) entry.getCertificate().getPublicKey();
-                    // Enforce minimum strength and build JWK for signing/verification
-                    validateKeySize(rsaPub);
-                    rsaJwk = new RSAKey.Builder(rsaPub).privateKey(rsaPriv).keyID(props.getKid()).build();
+                    signingJwk = toJwk(entry.getPrivateKey(), entry.getCertificate().getPublicKey());
                     return;
                 }
             }
@@ -95,10 +167,8 @@ public class JwtService {
         String pem = env.getProperty("SECURITY_JWT_PRIVATE_KEY");
         if (pem != null && !pem.isBlank()) {
             // Secondary option: parse PKCS#8 PEM from environment variable
-            RSAPrivateKey priv = parsePkcs8Pem(pem);
-            RSAPublicKey pub = derivePublicKey(priv);
-            validateKeySize(pub);
-            rsaJwk = new RSAKey.Builder(pub).privateKey(priv).keyID(props.getKid()).build();
+            PrivateKey priv = parsePkcs8Pem(pem);
+            signingJwk = toJwk(priv, derivePublicKey(priv));
             return;
         }
         // Try filesystem path (property or env override)
@@ -111,15 +181,92 @@ public class JwtService {
             java.nio.file.Path path = java.nio.file.Path.of(pemPath);
             if (java.nio.file.Files.exists(path)) {
                 String filePem = java.nio.file.Files.readString(path, StandardCharsets.UTF_8);
-                RSAPrivateKey priv = parsePkcs8Pem(filePem);
-                RSAPublicKey pub = derivePublicKey(priv);
-                validateKeySize(pub);
-                rsaJwk = new RSAKey.Builder(pub).privateKey(priv).keyID(props.getKid()).build();
+                PrivateKey priv = parsePkcs8Pem(filePem);
+                signingJwk = toJwk(priv, derivePublicKey(priv));
                 return;
             } else {
-                throw new IllegalStateException("Configured JWT private key path does not exist: " + pemPath);
+                log.warn("Configured JWT private key path does not exist: {}", pemPath);
+            }
+        }
+    }
+
+    /**
+     * Loads the optional additional public keys and builds one verifier per kid.
+     * The JWKS publishes the signing key first, then these.
+     * Private parts in that file are ignored.
+     */
+    private void loadVerificationKeys() throws Exception {
+        List<JWK> published = new ArrayList<>();
+        Map<String, KeyVerifier> verifiers = new HashMap<>();
+        published.add(signingJwk.toPublicJWK());
+
+        String path = props.getAdditionalJwksPath();
+        if (path != null && !path.isBlank()) {
+            JWKSet additional = JWKSet.load(new java.io.File(path));
+            for (JWK jwk : additional.getKeys()) {
+                if (jwk.getKeyID() == null || jwk.getKeyID().equals(signingJwk.getKeyID())
+                        || verifiers.containsKey(jwk.getKeyID())) {
+                    throw new IllegalStateException("Additional JWKs need a unique kid: " + jwk.getKeyID());
+                }
+                published.add(jwk.toPublicJWK());
+                JWSAlgorithm alg = jwk.getAlgorithm() != null ? JWSAlgorithm.parse(jwk.getAlgorithm().getName()) : null;
+                verifiers.put(jwk.getKeyID(), new KeyVerifier(alg, verifierFor(jwk.toPublicJWK())));
             }
         }
+        publishedJwks = List.copyOf(published);
+        verifiersByKid = Map.copyOf(verifiers);
+    }
+
+    /**
+     * Builds the signing JWK, checking the key against the configured algorithm:
+     * RSA-4096 or larger for RS/PS, the algorithm's curve for ES, Ed25519 for EdDSA.
+     */
+    private JWK toJwk(PrivateKey priv, PublicKey pub) {
+        if (JWSAlgorithm.Family.RSA.contains(algorithm) && pub instanceof RSAPublicKey rsaPub) {
+            // Enforce minimum strength and build JWK for signing/verification
+            validateKeySize(rsaPub);
+            return new RSAKey.Builder(rsaPub).privateKey((RSAPrivateKey) priv).keyID(props.getKid()).algorithm(algorithm).build();
+        }
+        if (JWSAlgorithm.Family.EC.contains(algorithm) && pub instanceof ECPublicKey ecPub) {
+            Curve curve = Curve.forECParameterSpec(ecPub.getParams());
+            if (curve == null || !Curve.forJWSAlgorithm(algorithm).contains(curve)) {
+                throw new IllegalStateException("Configured EC key curve " + curve + " does not match " + algorithm);
+            }
+            return new ECKey.Builder(curve, ecPub).privateKey((ECPrivateKey) priv).keyID(props.getKid()).algorithm(algorithm).build();
+        }
+        if (JWSAlgorithm.Family.ED.contains(algorithm) && priv instanceof EdECPrivateKey edPriv) {
+            byte[] d = edPriv.getBytes().orElseThrow(() -> new IllegalStateException("Ed25519 private key is not extractable"));
+            byte[] x = new Ed25519PrivateKeyParameters(d, 0).generatePublicKey().getEncoded();
+            return new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(x)).d(Base64URL.encode(d))
+                    .keyID(props.getKid()).algorithm(algorithm).build();
+        }
+        throw new IllegalStateException("Configured " + priv.getAlgorithm() + " key cannot sign " + algorithm);
+    }
+
+    private static JWSSigner signerFor(JWK jwk) throws JOSEException {
+        if (jwk instanceof RSAKey rsa) {
+            return new RSASSASigner(rsa);
+        }
+        if (jwk instanceof ECKey ec) {
+            return new ECDSASigner(ec);
+        }
+        if (jwk instanceof OctetKeyPair okp) {
+            return new Ed25519Signer(okp);
+        }
+        throw new IllegalStateException("Unsupported JWK type: " + jwk.getKeyType());
+    }
+
+    private static JWSVerifier verifierFor(JWK jwk) throws JOSEException {
+        if (jwk instanceof RSAKey rsa) {
+            return new RSASSAVerifier(rsa.toPublicJWK());
+        }
+        if (jwk instanceof ECKey ec) {
+            return new ECDSAVerifier(ec.toPublicJWK());
+        }
+        if (jwk instanceof OctetKeyPair okp) {
+            return new Ed25519Verifier(okp.toPublicJWK());
+        }
+        throw new IllegalStateException("Unsupported JWK type: " + jwk.getKeyType());
     }
 
     private void validateKeySize(RSAPublicKey pub) {
@@ -129,27 +276,37 @@ public class JwtService {
         }
     }
 
-    private RSAPrivateKey parsePkcs8Pem(String pem) throws Exception {
+    /**
+     * JCA key factory algorithm for the configured JWS algorithm.
+     */
+    private String keyFactoryAlgorithm() {
+        if (JWSAlgorithm.Family.EC.contains(algorithm)) {
+            return "EC";
+        }
+        if (JWSAlgorithm.Family.ED.contains(algorithm)) {
+            return "Ed25519";
+        }
+        return "RSA";
+    }
+
+    private PrivateKey parsePkcs8Pem(String pem) throws Exception {
         String normalized = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\r?\n", "");
         try {
             byte[] der = Base64.getDecoder().decode(normalized);
             PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(der);
-            KeyFactory kf = KeyFactory.getInstance("RSA");
-            PrivateKey pk = kf.generatePrivate(spec);
-            return (RSAPrivateKey) pk;
+            KeyFactory kf = KeyFactory.getInstance(keyFactoryAlgorithm());
+            return kf.generatePrivate(spec);
         } catch (Exception pkcs8Ex) {
             try (java.io.StringReader sr = new java.io.StringReader(pem);
                  PEMParser parser = new PEMParser(sr)) {
                 Object obj = parser.readObject();
                 JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
                 if (obj instanceof PEMKeyPair) {
-                    PrivateKey pk = converter.getPrivateKey(((PEMKeyPair) obj).getPrivateKeyInfo());
-                    return (RSAPrivateKey) pk;
+                    return converter.getPrivateKey(((PEMKeyPair) obj).getPrivateKeyInfo());
                 }
                 if (obj != null) {
                     try {
-                        PrivateKey pk = converter.getPrivateKey((org.bouncycastle.asn1.pkcs.PrivateKeyInfo) obj);
-                        return (RSAPrivateKey) pk;
+                        return converter.getPrivateKey((org.bouncycastle.asn1.pkcs.PrivateKeyInfo) obj);
                     } catch (ClassCastException cce) {
                         if (obj instanceof org.bouncycastle.asn1.pkcs.RSAPrivateKey) {
                             org.bouncycastle.asn1.pkcs.RSAPrivateKey rsa = (org.bouncycastle.asn1.pkcs.RSAPrivateKey) obj;
@@ -163,7 +320,7 @@ public class JwtService {
                             java.math.BigInteger qi = rsa.getCoefficient();
                             java.security.spec.RSAPrivateCrtKeySpec spec = new java.security.spec.RSAPrivateCrtKeySpec(modulus, publicExp, privateExp, p, q, dp, dq, qi);
                             KeyFactory kf = KeyFactory.getInstance("RSA");
-                            return (RSAPrivateKey) kf.generatePrivate(spec);
+                            return kf.generatePrivate(spec);
                         }
                     }
                 }
@@ -172,17 +329,31 @@ public class JwtService {
         }
     }
 
-    private RSAPublicKey derivePublicKey(RSAPrivateKey priv) throws Exception {
+    /**
+     * Derives the public key from a private key. Ed25519 needs no public key
+     * here; {@link #toJwk(PrivateKey, PublicKey)} derives it from the seed.
+     */
+    private PublicKey derivePublicKey(PrivateKey priv) throws Exception {
         if (priv instanceof RSAPrivateCrtKey crt) {
             RSAPublicKeySpec pubSpec = new RSAPublicKeySpec(crt.getModulus(), crt.getPublicExponent());
             KeyFactory kf = KeyFactory.getInstance("RSA");
-            return (RSAPublicKey) kf.generatePublic(pubSpec);
+            return kf.generatePublic(pubSpec);
+        }
+        if (priv instanceof ECPrivateKey ec) {
+            // Q = d * G on the key's curve
+            org.bouncycastle.math.ec.ECPoint q = EC5Util.convertSpec(ec.getParams()).getG().multiply(ec.getS()).normalize();
+            java.security.spec.ECPoint point = new java.security.spec.ECPoint(
+                    q.getAffineXCoord().toBigInteger(), q.getAffineYCoord().toBigInteger());
+            return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, ec.getParams()));
+        }
+        if (priv instanceof EdECPrivateKey) {
+            return null;
         }
         throw new IllegalStateException("Cannot derive public key; provide keystore or a certificate alongside the private key.");
     }
 
     /**
-     * Creates a signed JWT for the given subject using the configured RSA key.
+     * Creates a signed JWT for the given subject using the configured signing key.
      *
      * <p>Includes standard claims (sub, iat, exp, jti) and merges in configured
      * static claims plus any extra claims provided at call time.</p>
@@ -190,14 +361,12 @@ public class JwtService {
      * <p>If no signing key is configured (dev fallback), returns a random UUID instead.</p>
      */
     public String createToken(String subject, Map<String, Object> extraClaims) {
-        if (rsaJwk == null) {
+        if (signingJwk == null) {
             // Development fallback: return UUID token when no key configured (insecure)
             return UUID.randomUUID().toString();
         }
 
         try {
-            RSAPrivateKey privateKey = rsaJwk.toRSAPrivateKey();
-
             Instant now = Instant.now();
             Instant exp = now.plus(props.getTtl());
 
@@ -215,8 +384,7 @@ public class JwtService {
                 extraClaims.forEach(claims::claim);
             }
 
-            SignedJWT signedJWT = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.parse(props.getAlg())).keyID(props.getKid()).build(), claims.build());
-            JWSSigner signer = new RSASSASigner(privateKey);
+            SignedJWT signedJWT = new SignedJWT(new JWSHeader.Builder(algorithm).keyID(signingJwk.getKeyID()).build(), claims.build());
             signedJWT.sign(signer);
             return signedJWT.serialize();
         } catch (Exception e) {
@@ -225,22 +393,105 @@ public class JwtService {
     }
 
     /**
-     * Validates a JWT by verifying the RSA signature and expiration timestamp.
+     * Returns true if a signing key is configured. Without one, tokens are
+     * neither signed nor verified (dev fallback).
+     */
+    public boolean isSigningKeyConfigured() {
+        return signingJwk != null;
+    }
+
+    /**
+     * Validates a JWT by verifying its signature, with the ES, EdDSA or RSA
+     * verifier selected by the token's kid, and its expiration timestamp.
      * Returns false on any parse or verification error.
      */
     public boolean validateToken(String token) {
-        if (rsaJwk == null) {
-            return token != null && !token.isBlank();
+        return verifyToken(token).isPresent();
+    }
+
+    /**
+     * Verifies a JWT and returns its claims, parsing the token at most once.
+     *
+     * <p>Tokens verified earlier are answered from the verified-token cache
+     * without parsing or signature verification. Only valid tokens are cached,
+     * so a forged or expired token is always fully checked and rejected.</p>
+     *
+     * <p>If no signing key is configured (dev fallback), any non-blank token is
+     * accepted with empty claims.</p>
+     *
+     * @param token Serialized JWT
+     * @return Claims of a valid, unexpired token; empty on any parse or verification error
+     */
+    public Optional<JWTClaimsSet> verifyToken(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        if (signingJwk == null) {
+            return Optional.of(new JWTClaimsSet.Builder().build());
         }
+
+        String hash = sha256(token);
+        JWTClaimsSet cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null) {
+            return isUnexpired(cached) ? Optional.of(cached) : Optional.empty();
+        }
+
         try {
             SignedJWT signedJWT = SignedJWT.parse(token);
-            RSAPublicKey pub = rsaJwk.toRSAPublicKey();
-            RSASSAVerifier verifier = new RSASSAVerifier(pub);
-            if (!signedJWT.verify(verifier)) return false;
-            Date exp = signedJWT.getJWTClaimsSet().getExpirationTime();
-            return exp != null && exp.after(new Date());
+            KeyVerifier keyVerifier = verifierFor(signedJWT.getHeader());
+            if (keyVerifier == null || !signedJWT.verify(keyVerifier.verifier())) {
+                return Optional.empty();
+            }
+            JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
+            if (!isUnexpired(claims)) {
+                return Optional.empty();
+            }
+            verifiedTokens.put(hash, claims);
+            return Optional.of(claims);
         } catch (Exception e) {
-            return false;
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Picks the verifier for the token's kid (the signing key when absent).
+     * Returns null for unknown keys or an algorithm other than the key's.
+     */
+    private KeyVerifier verifierFor(JWSHeader header) {
+        String kid = header.getKeyID();
+        KeyVerifier keyVerifier = kid == null || kid.equals(signingJwk.getKeyID())
+                ? signingKeyVerifier
+                : verifiersByKid.get(kid);
+        if (keyVerifier == null
+                || (keyVerifier.algorithm() != null && !keyVerifier.algorithm().equals(header.getAlgorithm()))) {
+            return null;
+        }
+        return keyVerifier;
+    }
+
+    private static boolean isUnexpired(JWTClaimsSet claims) {
+        Date exp = claims.getExpirationTime();
+        return exp != null && exp.after(new Date());
+    }
+
+    /**
+     * Remaining lifetime of a verified token, for cache expiry.
+     */
+    private static Duration untilExpiry(JWTClaimsSet claims) {
+        Date exp = claims.getExpirationTime();
+        if (exp == null) {
+            return Duration.ZERO;
+        }
+        Duration remaining = Duration.between(Instant.now(), exp.toInstant());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 
@@ -249,9 +500,13 @@ public class JwtService {
      * If no key is configured, the set is empty.
      */
     public JWKSet getPublicJwkSet() {
-        if (rsaJwk != null) {
-            return new JWKSet(rsaJwk.toPublicJWK());
-        }
-        return new JWKSet();
+        return new JWKSet(publishedJwks);
+    }
+
+    /**
+     * Verifier for one published key; algorithm is the only one accepted for
+     * it, or null to accept any algorithm the verifier supports.
+     */
+    private record KeyVerifier(JWSAlgorithm algorithm, JWSVerifier verifier) {
     }
 }
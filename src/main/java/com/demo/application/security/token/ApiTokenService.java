@@ -1,23 +1,58 @@
 package com.demo.application.security.token;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Issues, verifies and revokes persistent API tokens (format tokenId.secret).
+ *
+ * <p>Secrets are stored as PasswordEncoder (BCrypt) hashes, which are
+ * deliberately slow to check. To keep that cost off every request, a
+ * successful verification is remembered per tokenId together with the
+ * SHA-256 digest of the secret. Later requests presenting the same secret
+ * are accepted by comparing digests in constant time.</p>
+ *
+ * <p>Remembered verifications end at the earliest of:</p>
+ * <ul>
+ *   <li>the token's expiry</li>
+ *   <li>revocation through {@link #revoke(String)} on this instance</li>
+ *   <li>the verification cache TTL, which bounds how long a revocation made
+ *       on another instance or directly in the database goes unnoticed</li>
+ * </ul>
+ *
+ * <p>Failed verifications are never cached, and a digest mismatch falls back
+ * to the full BCrypt check, so guessing secrets stays as slow as before.</p>
+ */
 @Service
 public class ApiTokenService {
     private final ApiTokenRepository repo;
     private final PasswordEncoder passwordEncoder;
     private final SecureRandom random = new SecureRandom();
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    public ApiTokenService(ApiTokenRepository repo, PasswordEncoder passwordEncoder) {
+    public ApiTokenService(ApiTokenRepository repo, PasswordEncoder passwordEncoder,
+                           @Value("${app_config.auth.persistent-tokens.verification-cache-ttl:PT5M}") Duration verificationTtl,
+                           @Value("${app_config.auth.persistent-tokens.verification-cache-size:10000}") long verificationCacheSize) {
         this.repo = repo;
         this.passwordEncoder = passwordEncoder;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verificationCacheSize)
+                .expireAfter(Expiry.creating((String tokenId, VerifiedToken token) -> token.lifetime(verificationTtl)))
+                .build();
     }
 
     /**
@@ -53,4 +88,80 @@ public class ApiTokenService {
     public Optional<ApiToken> findByTokenId(String tokenId) {
         return repo.findByTokenId(tokenId);
     }
+
+    /**
+     * Verifies a presented token value (tokenId.secret).
+     *
+     * @param tokenValue Raw token from the Authorization header
+     * @return ID of the owning user if the token exists, is neither revoked nor
+     *         expired, and the secret matches; empty otherwise
+     */
+    public Optional<Long> authenticate(String tokenValue) {
+        int dot = tokenValue.indexOf('.');
+        if (dot <= 0 || dot == tokenValue.length() - 1) {
+            return Optional.empty();
+        }
+        String tokenId = tokenValue.substring(0, dot);
+        String secret = tokenValue.substring(dot + 1);
+        byte[] secretDigest = sha256(secret);
+
+        VerifiedToken verified = verifiedTokens.getIfPresent(tokenId);
+        if (verified != null && verified.isUnexpired()
+                && MessageDigest.isEqual(verified.secretDigest, secretDigest)) {
+            return Optional.of(verified.ownerUserId);
+        }
+
+        Optional<ApiToken> token = repo.findByTokenId(tokenId)
+                .filter(t -> !t.isRevoked() && t.getExpiresAt() != null && t.getExpiresAt().isAfter(LocalDateTime.now()))
+                .filter(t -> passwordEncoder.matches(secret, t.getTokenHash()));
+        token.ifPresent(t -> verifiedTokens.put(tokenId,
+                new VerifiedToken(secretDigest, t.getOwnerUserId(), t.getExpiresAt())));
+        return token.map(ApiToken::getOwnerUserId);
+    }
+
+    /**
+     * Revokes a token and forgets any remembered verification of it.
+     */
+    public void revoke(String tokenId) {
+        repo.findByTokenId(tokenId).ifPresent(t -> {
+            t.setRevoked(true);
+            repo.save(t);
+        });
+        verifiedTokens.invalidate(tokenId);
+    }
+
+    private static byte[] sha256(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * A successful verification: digest of the accepted secret and the token's owner and expiry.
+     */
+    private static final class VerifiedToken {
+        private final byte[] secretDigest;
+        private final Long ownerUserId;
+        private final LocalDateTime expiresAt;
+
+        private VerifiedToken(byte[] secretDigest, Long ownerUserId, LocalDateTime expiresAt) {
+            this.secretDigest = secretDigest;
+            this.ownerUserId = ownerUserId;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isUnexpired() {
+            return expiresAt.isAfter(LocalDateTime.now());
+        }
+
+        private Duration lifetime(Duration maximum) {
+            Duration remaining = Duration.between(LocalDateTime.now(), expiresAt);
+            if (remaining.isNegative()) {
+                return Duration.ZERO;
+            }
+            return remaining.compareTo(maximum) < 0 ? remaining : maximum;
+        }
+    }
 }
@@ -39,10 +39,7 @@ public class TokenController {
     @DeleteMapping("/{tokenId}")
     @org.springframework.security.access.prepost.PreAuthorize("hasRole('MY_APP_SUPERADMIN')")
     public ResponseEntity<Void> revoke(@PathVariable String tokenId) {
-        apiTokenRepository.findByTokenId(tokenId).ifPresent(t -> {
-            t.setRevoked(true);
-            apiTokenRepository.save(t);
-        });
+        apiTokenService.revoke(tokenId);
         return ResponseEntity.noContent().build();
     }
 }
@@ -1,10 +1,17 @@
 package com.demo.application.user;
 
 import com.demo.domain.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository for User entity.
@@ -14,7 +21,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     /**
      * Find a user by username.
+     * Served from the query cache on repeated logins; any write to users
+     * invalidates the cached result.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
     
     /**
@@ -26,4 +36,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * Check if a user with the given email exists.
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Return which of the given IDs exist, without loading the users.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
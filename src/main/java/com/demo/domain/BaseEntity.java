@@ -14,6 +14,17 @@ import java.time.LocalDateTime;
 
 /**
  * Base entity providing common fields for all domain entities.
+ *
+ * IDs come from a shared pooled database sequence rather than IDENTITY columns.
+ * With IDENTITY, Hibernate must execute each INSERT immediately to learn the
+ * generated key, which disables JDBC insert batching. A pooled sequence hands
+ * out ID_ALLOCATION_SIZE identifiers per round trip, so inserts can be deferred
+ * to flush and grouped into batches of hibernate.jdbc.batch_size.
+ *
+ * Every entity is optimistically locked: Hibernate adds "AND version = ?" to
+ * each UPDATE and DELETE and increments the version, so a concurrent write
+ * fails with an OptimisticLockException instead of being silently overwritten.
+ * Bulk UPDATE statements bypass this and must increment the version themselves.
  */
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
@@ -24,8 +35,22 @@ import java.time.LocalDateTime;
 @SuperBuilder
 public abstract class BaseEntity {
 
+    /**
+     * Database sequence backing all entity IDs.
+     */
+    public static final String ID_SEQUENCE = "entity_id_seq";
+
+    /**
+     * IDs reserved per sequence call. Must match the sequence INCREMENT BY
+     * when the schema is managed outside Hibernate; keep it at or above
+     * hibernate.jdbc.batch_size so a full batch needs at most one sequence call.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "entity_id_generator")
+    @SequenceGenerator(name = "entity_id_generator", sequenceName = ID_SEQUENCE,
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @CreatedDate
@@ -35,4 +60,8 @@ public abstract class BaseEntity {
     @LastModifiedDate
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,76 @@
+package com.demo.domain.batch;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Request DTO for batch partial updates of computer systems.
+ *
+ * Applies the same field values to every listed ID. Only supplied (non-null)
+ * fields are changed; omitted fields keep their current values. Unique keys
+ * (hostname, MAC address, IP address) cannot be patched, since assigning one
+ * value to several systems would always violate uniqueness.
+ *
+ * The patch is executed as a single UPDATE ... WHERE id IN (...) per chunk
+ * without loading the entities.
+ *
+ * Example request:
+ * PATCH /api/v1/computer-systems/batch/patch
+ * {
+ *   "ids": [1, 2, 3],
+ *   "department": "DevOps"
+ * }
+ *
+ * @see BatchComputerSystemController for endpoint implementation
+ */
+@Schema(description = "Batch partial update applying the same values to many computer systems")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchComputerSystemPatchRequest {
+
+    private static final String NOT_BLANK = "^(?!\\s*$).+";
+
+    @NotEmpty(message = "Batch ids cannot be empty - at least 1 id required")
+    @Schema(description = "IDs of the computer systems to patch", example = "[1, 2, 3]")
+    private List<@NotNull(message = "Batch ids cannot contain null") Long> ids;
+
+    @Pattern(regexp = NOT_BLANK, message = "Manufacturer cannot be blank")
+    @Schema(description = "New manufacturer", example = "Dell")
+    private String manufacturer;
+
+    @Pattern(regexp = NOT_BLANK, message = "Model cannot be blank")
+    @Schema(description = "New model", example = "PowerEdge R750")
+    private String model;
+
+    @Schema(description = "New assigned user ID", example = "1")
+    private Long userId;
+
+    @Pattern(regexp = NOT_BLANK, message = "Department cannot be blank")
+    @Schema(description = "New department", example = "DevOps")
+    private String department;
+
+    @Pattern(regexp = NOT_BLANK, message = "Network name cannot be blank")
+    @Schema(description = "New network name", example = "PROD-NETWORK")
+    private String networkName;
+
+    @JsonIgnore
+    @AssertTrue(message = "At least one field to patch is required")
+    public boolean isAnyFieldSet() {
+        return manufacturer != null || model != null || userId != null
+                || department != null || networkName != null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.demo.domain.batch;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Result of one committed (or rolled back) chunk of a streaming import.
+ *
+ * Each chunk runs in its own transaction. Lines that fail validation are
+ * skipped and reported in errors; the remaining lines of the chunk are
+ * created all-or-nothing. If that write fails (duplicate key, unknown user),
+ * the chunk is reported as FAILED and none of its lines are created.
+ *
+ * Example (one line of the NDJSON response):
+ * {"chunk":3,"firstRecord":1001,"lastRecord":1500,"created":499,"failed":1,
+ *  "status":"PARTIAL","errors":["record 1207: ipAddress: Invalid IP address format"]}
+ *
+ * @see BatchImportSummary for the final line of the response
+ */
+@Schema(description = "Result of one chunk of a streaming computer system import")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchImportChunkResult {
+
+    @Schema(description = "Chunk number, starting at 1", example = "1")
+    private int chunk;
+
+    @Schema(description = "Record number of the first line in the chunk", example = "1")
+    private long firstRecord;
+
+    @Schema(description = "Record number of the last line in the chunk", example = "500")
+    private long lastRecord;
+
+    @Schema(description = "Computer systems created by this chunk", example = "500")
+    private int created;
+
+    @Schema(description = "Lines of this chunk that were not created", example = "0")
+    private int failed;
+
+    @Schema(description = "Chunk status", example = "SUCCESS",
+            allowableValues = {"SUCCESS", "PARTIAL", "FAILED"})
+    private String status;
+
+    @Schema(description = "Validation or processing errors for this chunk")
+    private List<String> errors;
+}
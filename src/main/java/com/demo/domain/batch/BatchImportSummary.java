@@ -0,0 +1,58 @@
+package com.demo.domain.batch;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Totals for a streaming import, written as the last NDJSON response line.
+ *
+ * Example:
+ * {"summary":true,"totalRecords":200000,"created":199998,"failed":2,
+ *  "chunks":200,"status":"PARTIAL","timestamp":"2025-11-28T02:00:00"}
+ *
+ * A status of ABORTED means the input could not be parsed past
+ * lastRecord; chunks reported before that point remain committed.
+ *
+ * @see BatchImportChunkResult for per-chunk lines
+ */
+@Schema(description = "Totals for a streaming computer system import")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchImportSummary {
+
+    @Schema(description = "Marks the final summary line of the response", example = "true")
+    @Builder.Default
+    private boolean summary = true;
+
+    @Schema(description = "Records read from the input", example = "200000")
+    private long totalRecords;
+
+    @Schema(description = "Computer systems created", example = "200000")
+    private long created;
+
+    @Schema(description = "Records not created", example = "0")
+    private long failed;
+
+    @Schema(description = "Chunks processed", example = "200")
+    private int chunks;
+
+    @Schema(description = "Import status", example = "SUCCESS",
+            allowableValues = {"SUCCESS", "PARTIAL", "FAILED", "ABORTED"})
+    private String status;
+
+    @Schema(description = "Reason the import was aborted, if it was")
+    private String error;
+
+    @Schema(description = "Completion timestamp")
+    @Builder.Default
+    private LocalDateTime timestamp = LocalDateTime.now();
+}
@@ -3,14 +3,33 @@ package com.demo.domain.computersystem;
 import com.demo.domain.BaseEntity;
 import com.demo.domain.user.User;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
 @Entity
-@Table(name = "computer_systems")
+@Table(name = "computer_systems", uniqueConstraints = {
+    @UniqueConstraint(name = ComputerSystem.UK_HOSTNAME, columnNames = "hostname"),
+    @UniqueConstraint(name = ComputerSystem.UK_MAC_ADDRESS, columnNames = "mac_address"),
+    @UniqueConstraint(name = ComputerSystem.UK_IP_ADDRESS, columnNames = "ip_address")
+}, indexes = {
+    // DEPARTMENT scope checks and department filters, ordered by id for paging
+    @Index(name = "idx_computer_systems_department_id", columnList = "department, id"),
+    // Per-user filters and assignment lookups, ordered by id for paging
+    @Index(name = "idx_computer_systems_assigned_user_id", columnList = "assigned_user_id, id"),
+    // OWN scope checks
+    @Index(name = "idx_computer_systems_created_by", columnList = "created_by"),
+    // Recently updated listings
+    @Index(name = "idx_computer_systems_updated_at", columnList = "updated_at DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +37,15 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 public class ComputerSystem extends BaseEntity {
 
-    @Column(nullable = false, unique = true)
+    // Constraint names are fixed so that insert-time violations can be mapped
+    // back to the colliding key (see ComputerSystemService).
+    public static final String UK_HOSTNAME = "uk_computer_systems_hostname";
+    public static final String UK_MAC_ADDRESS = "uk_computer_systems_mac_address";
+    public static final String UK_IP_ADDRESS = "uk_computer_systems_ip_address";
+    public static final String FK_SYSTEM_USER = "fk_computer_systems_assigned_user";
+    public static final String FK_HOSTNAME_GRAM_SYSTEM = "fk_hostname_grams_computer_system";
+
+    @Column(nullable = false)
     private String hostname;
 
     @Column(nullable = false)
@@ -27,17 +54,18 @@ public class ComputerSystem extends BaseEntity {
     @Column(nullable = false)
     private String model;
 
-    @ManyToOne(fetch = FetchType.EAGER)
-    @JoinColumn(name = "assigned_user_id", nullable = false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assigned_user_id", nullable = false,
+                foreignKey = @ForeignKey(name = FK_SYSTEM_USER))
     private User systemUser;
 
     @Column(nullable = false)
     private String department;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String macAddress;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String ipAddress;
 
     @Column(nullable = false)
@@ -46,4 +74,40 @@ public class ComputerSystem extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by")
     private User createdBy;
+
+    /**
+     * Trigram index of the hostname used by hostname search (see HostnameGrams).
+     * Derived from hostname only; never set directly.
+     */
+    @ElementCollection
+    @CollectionTable(name = "computer_system_hostname_grams",
+            joinColumns = @JoinColumn(name = "computer_system_id",
+                    foreignKey = @ForeignKey(name = FK_HOSTNAME_GRAM_SYSTEM)),
+            indexes = @Index(name = "idx_hostname_grams_gram", columnList = "gram, computer_system_id"))
+    @Column(name = "gram", nullable = false, length = HostnameGrams.GRAM_LENGTH)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private Set<String> hostnameGrams = new HashSet<>();
+
+    public void setHostname(String hostname) {
+        // Unchanged hostnames must not initialize the lazy gram collection
+        if (Objects.equals(this.hostname, hostname)) {
+            return;
+        }
+        this.hostname = hostname;
+        refreshHostnameGrams();
+    }
+
+    /**
+     * Brings the gram rows in line with the hostname, touching only grams
+     * that actually changed. Builders bypass setHostname, so this also runs
+     * before the first insert.
+     */
+    @PrePersist
+    void refreshHostnameGrams() {
+        Set<String> grams = HostnameGrams.index(hostname);
+        hostnameGrams.retainAll(grams);
+        hostnameGrams.addAll(grams);
+    }
 }
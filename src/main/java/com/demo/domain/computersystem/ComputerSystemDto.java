@@ -10,6 +10,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Schema(description = "Computer System Data Transfer Object")
 @Getter
 @Setter
@@ -54,4 +56,12 @@ public class ComputerSystemDto {
     @NotBlank(message = "Network name is required")
     @Schema(description = "Network name", example = "PROD-NETWORK")
     private String networkName;
+
+    @Schema(description = "Last modification time",
+            example = "2024-01-15T10:30:00", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "Optimistic lock version. Send it back on update to reject the write if the " +
+            "system was changed in the meantime; omit it for an unconditional update", example = "3")
+    private Long version;
 }
@@ -0,0 +1,18 @@
+package com.demo.domain.computersystem;
+
+/**
+ * Read-only projection of the unique keys of a ComputerSystem.
+ *
+ * Used by uniqueness checks so that hostname, MAC and IP collisions can be
+ * resolved in a single query without hydrating the full entity graph.
+ */
+public interface ComputerSystemKeys {
+
+    Long getId();
+
+    String getHostname();
+
+    String getMacAddress();
+
+    String getIpAddress();
+}
@@ -18,6 +18,8 @@ public interface ComputerSystemMapper {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "hostnameGrams", ignore = true)
     ComputerSystem toEntity(ComputerSystemDto dto);
 
     @Mapping(target = "id", ignore = true)
@@ -25,5 +27,6 @@ public interface ComputerSystemMapper {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntityFromDto(ComputerSystemDto dto, @MappingTarget ComputerSystem entity);
 }
@@ -0,0 +1,19 @@
+package com.demo.domain.computersystem;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of the change-tracking columns of a ComputerSystem.
+ *
+ * Used to evaluate conditional requests (If-None-Match, If-Modified-Since,
+ * If-Match) without reading or serializing the full row. The ETag is
+ * derived from the version; updatedAt backs Last-Modified.
+ */
+public interface ComputerSystemVersion {
+
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getVersion();
+}
@@ -0,0 +1,90 @@
+package com.demo.domain.computersystem;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Trigram tokenizer behind the indexed hostname search.
+ *
+ * Every hostname is stored with its lowercase trigrams in the
+ * computer_system_hostname_grams table (indexed on gram). The value is
+ * prefixed with two padding spaces, as pg_trgm does, so that the first
+ * trigrams also encode "starts with":
+ *
+ *   "SRV-01" -> "  s", " sr", "srv", "rv-", "v-0", "-01"
+ *
+ * A search term is turned into the trigrams a matching hostname must contain.
+ * Candidates are found through the gram index and then verified with a LIKE
+ * on the candidate rows only, so trigram collisions never produce false hits.
+ */
+public final class HostnameGrams {
+
+    /**
+     * Length of an indexed gram.
+     */
+    public static final int GRAM_LENGTH = 3;
+
+    private static final String PADDING = "  ";
+
+    /**
+     * Supported hostname match modes.
+     */
+    public enum Match {
+        PREFIX,
+        CONTAINS;
+
+        /**
+         * Resolves a match mode by case-insensitive name.
+         */
+        public static Optional<Match> of(String name) {
+            for (Match match : values()) {
+                if (match.name().equals(name.toUpperCase(Locale.ROOT))) {
+                    return Optional.of(match);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private HostnameGrams() {
+    }
+
+    /**
+     * Returns the grams stored for a hostname.
+     */
+    public static Set<String> index(String hostname) {
+        if (hostname == null) {
+            return new LinkedHashSet<>();
+        }
+        return trigrams(PADDING + normalize(hostname));
+    }
+
+    /**
+     * Returns the grams a hostname must contain to match the term.
+     *
+     * Prefix terms are always indexable thanks to the padding. Substring
+     * terms shorter than GRAM_LENGTH have no trigram, so the result is empty
+     * and the caller has to fall back to an unindexed LIKE.
+     */
+    public static Set<String> query(String term, Match match) {
+        String normalized = normalize(term);
+        return match == Match.PREFIX ? trigrams(PADDING + normalized) : trigrams(normalized);
+    }
+
+    /**
+     * Lowercases a hostname or search term for comparison.
+     */
+    public static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> trigrams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -2,6 +2,8 @@ package com.demo.domain.security.permission;
 
 import com.demo.domain.BaseEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,6 +16,8 @@ import lombok.experimental.SuperBuilder;
  * Field-level permissions are stored as JSON in the fieldPermissions column.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Permission.CACHE_REGION)
 @Table(name = "permissions")
 @Getter
 @Setter
@@ -22,6 +26,11 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 public class Permission extends BaseEntity {
 
+    /**
+     * Second-level cache region (see hibernate-cache.conf).
+     */
+    public static final String CACHE_REGION = "permissions";
+
     @Column(nullable = false, length = 100)
     private String resourceType;
 
@@ -0,0 +1,35 @@
+package com.demo.domain.security.permissionversion;
+
+import com.demo.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Version stamp of one role's permissions, shared by all instances through
+ * the database.
+ *
+ * Every change to a role's permissions increments the inherited version
+ * column; instances poll the table and reload the roles whose version moved.
+ * The row named ALL_ROLES stands for a full reload.
+ */
+@Entity
+@Table(name = "permission_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class PermissionVersion extends BaseEntity {
+
+    /**
+     * Role name reserved for invalidations of every role.
+     */
+    public static final String ALL_ROLES = "*";
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String roleName;
+}
@@ -2,6 +2,8 @@ package com.demo.domain.security.role;
 
 import com.demo.domain.BaseEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,6 +15,8 @@ import lombok.experimental.SuperBuilder;
  * Roles are defined dynamically in the database rather than hardcoded enums.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Role.CACHE_REGION)
 @Table(name = "roles")
 @Getter
 @Setter
@@ -21,6 +25,11 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 public class Role extends BaseEntity {
 
+    /**
+     * Second-level cache region (see hibernate-cache.conf).
+     */
+    public static final String CACHE_REGION = "roles";
+
     @Column(nullable = false, unique = true, length = 100)
     private String name;
 
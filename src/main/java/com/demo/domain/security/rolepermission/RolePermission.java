@@ -4,6 +4,8 @@ import com.demo.domain.BaseEntity;
 import com.demo.domain.security.permission.Permission;
 import com.demo.domain.security.role.Role;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,6 +16,8 @@ import lombok.experimental.SuperBuilder;
  * Junction entity mapping roles to permissions (many-to-many relationship).
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RolePermission.CACHE_REGION)
 @Table(name = "role_permissions")
 @Getter
 @Setter
@@ -22,6 +26,11 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 public class RolePermission extends BaseEntity {
 
+    /**
+     * Second-level cache region (see hibernate-cache.conf).
+     */
+    public static final String CACHE_REGION = "role-permissions";
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "role_id", nullable = false)
     private Role role;
@@ -3,6 +3,8 @@ package com.demo.domain.user;
 import com.demo.domain.BaseEntity;
 import com.demo.domain.security.role.Role;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,6 +17,8 @@ import java.time.LocalDateTime;
  * Users have a role that determines their permissions.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 @Table(name = "users")
 @Getter
 @Setter
@@ -23,6 +27,11 @@ import java.time.LocalDateTime;
 @SuperBuilder
 public class User extends BaseEntity {
 
+    /**
+     * Second-level cache region (see hibernate-cache.conf).
+     */
+    public static final String CACHE_REGION = "users";
+
     @Column(nullable = false, unique = true, length = 100)
     private String username;
 
@@ -23,6 +23,9 @@ import org.springframework.context.annotation.Configuration;
  *   batch:
  *     max-items: 100
  *     timeout-seconds: 300
+ *     chunk-size: 500
+ *     max-patch-ids: 5000
+ *     import-chunk-size: 1000
  *
  * Usage in controller (constructor injection):
  * private final BatchProperties batchProperties;
@@ -80,6 +83,40 @@ public class BatchProperties {
      */
     private int timeoutSeconds = 300;
 
+    /**
+     * Number of rows handled per chunk by the bulk write paths.
+     *
+     * Bounds the size of set-based IN lookups (hostname, MAC, IP, user IDs)
+     * and the number of entities flushed to the database before the
+     * persistence context is cleared, keeping memory flat for large batches.
+     *
+     * Default: 500
+     * Typical range: 100-1000 (stay below the database's bind parameter limit)
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Maximum number of IDs in a single batch patch request.
+     *
+     * Patch requests carry one set of field values plus a list of IDs and are
+     * applied with bulk UPDATE statements, so they can safely target far more
+     * rows than the item-based batch operations.
+     *
+     * Default: 5000
+     */
+    private int maxPatchIds = 5000;
+
+    /**
+     * Number of records committed per transaction by the streaming import.
+     *
+     * The import holds at most one chunk of parsed records in memory, so
+     * this bounds memory use regardless of file size. A failing chunk is
+     * rolled back on its own; earlier chunks stay committed.
+     *
+     * Default: 1000
+     */
+    private int importChunkSize = 1000;
+
     // Constructors
     public BatchProperties() {
     }
@@ -101,4 +138,34 @@ public class BatchProperties {
         }
         this.timeoutSeconds = timeoutSeconds;
     }
+
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Batch chunk size must be at least 1");
+        }
+        if (chunkSize > 5000) {
+            throw new IllegalArgumentException("Batch chunk size cannot exceed 5000 (bind parameter limits)");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    public void setImportChunkSize(int importChunkSize) {
+        if (importChunkSize < 1) {
+            throw new IllegalArgumentException("Batch import chunk size must be at least 1");
+        }
+        if (importChunkSize > 10000) {
+            throw new IllegalArgumentException("Batch import chunk size cannot exceed 10000 (memory protection)");
+        }
+        this.importChunkSize = importChunkSize;
+    }
+
+    public void setMaxPatchIds(int maxPatchIds) {
+        if (maxPatchIds < 1) {
+            throw new IllegalArgumentException("Batch max patch ids must be at least 1");
+        }
+        if (maxPatchIds > 100000) {
+            throw new IllegalArgumentException("Batch max patch ids cannot exceed 100000 (DOS protection)");
+        }
+        this.maxPatchIds = maxPatchIds;
+    }
 }
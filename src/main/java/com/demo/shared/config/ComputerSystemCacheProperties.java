@@ -0,0 +1,63 @@
+package com.demo.shared.config;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the in-process computer system lookup cache.
+ *
+ * Properties are loaded from application.yml under the
+ * "app.cache.computer-systems" prefix.
+ *
+ * Example application.yml configuration:
+ * app:
+ *   cache:
+ *     computer-systems:
+ *       max-size: 10000
+ *       ttl-seconds: 300
+ *
+ * @see com.demo.application.computersystem.ComputerSystemCache for usage
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.cache.computer-systems")
+@Getter
+@ToString
+public class ComputerSystemCacheProperties {
+
+    /**
+     * Maximum number of cached computer systems.
+     *
+     * Size it to the set of systems that are polled regularly; entries
+     * beyond it are evicted least-frequently-used first.
+     *
+     * Default: 10000
+     */
+    private long maxSize = 10000;
+
+    /**
+     * Seconds an entry is kept after it was loaded.
+     *
+     * Writes through this application invalidate entries immediately; the
+     * TTL only bounds staleness from changes made outside it (other
+     * instances, direct SQL).
+     *
+     * Default: 300 (5 minutes)
+     */
+    private long ttlSeconds = 300;
+
+    public void setMaxSize(long maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Computer system cache max size must be at least 1");
+        }
+        this.maxSize = maxSize;
+    }
+
+    public void setTtlSeconds(long ttlSeconds) {
+        if (ttlSeconds < 1) {
+            throw new IllegalArgumentException("Computer system cache TTL must be at least 1 second");
+        }
+        this.ttlSeconds = ttlSeconds;
+    }
+}
@@ -5,6 +5,7 @@ import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -104,6 +105,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(problem);
     }
 
+    /**
+     * Handles OptimisticLockingFailureException (HTTP 409).
+     * The resource was changed by another request after the client read it
+     * (stale version in the request body, or a concurrent write detected on flush).
+     * The client should re-read the resource and retry.
+     *
+     * Does NOT email these errors (expected under concurrent editing).
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+        problem.setTitle("Concurrent Modification");
+        problem.setDetail("The resource was modified by another request - fetch it again and retry");
+        problem.setInstance(URI.create(request.getRequestURI()));
+        problem.setProperty("timestamp", Instant.now());
+
+        log.debug("Optimistic locking conflict for {}: {}", request.getRequestURI(), ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problem);
+    }
+
     /**
      * Handles MethodArgumentNotValidException (HTTP 400).
      * Request validation failed (missing fields, invalid types, validation rules).
@@ -155,6 +180,52 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problem);
     }
 
+    /**
+     * Handles InvalidRequestException (HTTP 400).
+     * Request parameters were well-formed but not acceptable
+     * (e.g., unsupported sort property or tampered pagination cursor).
+     *
+     * Does NOT email these errors (client mistake, not server issue).
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidRequest(
+            InvalidRequestException ex,
+            HttpServletRequest request) {
+
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problem.setTitle("Invalid Request");
+        problem.setDetail(ex.getMessage());
+        problem.setInstance(URI.create(request.getRequestURI()));
+        problem.setProperty("timestamp", Instant.now());
+
+        log.debug("Invalid request for {}: {}", request.getRequestURI(), ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problem);
+    }
+
+    /**
+     * Handles PreconditionFailedException (HTTP 412).
+     * An If-Match header did not match the resource's current ETag, i.e. the
+     * client's copy is out of date and the write was not applied.
+     *
+     * Does NOT email these errors (expected under concurrent editing).
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ProblemDetail> handlePreconditionFailed(
+            PreconditionFailedException ex,
+            HttpServletRequest request) {
+
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.PRECONDITION_FAILED);
+        problem.setTitle("Precondition Failed");
+        problem.setDetail(ex.getMessage());
+        problem.setInstance(URI.create(request.getRequestURI()));
+        problem.setProperty("timestamp", Instant.now());
+
+        log.debug("Precondition failed for {}: {}", request.getRequestURI(), ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(problem);
+    }
+
     /**
      * Handles CallNotPermittedException (HTTP 503).
      * Circuit breaker is OPEN, external service unavailable.
@@ -0,0 +1,86 @@
+package com.demo.shared.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes Hibernate second-level and query cache counters to Micrometer,
+ * for sizing the regions in hibernate-cache.conf.
+ *
+ * Metrics (all monotonic counters):
+ * - app.cache.l2.requests{region, result=hit|miss}
+ * - app.cache.l2.puts{region}
+ * - app.cache.query.requests{result=hit|miss}
+ * - app.cache.query.puts
+ *
+ * Hit ratio per region: rate(requests{result="hit"}) / rate(requests).
+ * Requires hibernate.generate_statistics=true.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            log.warn("Hibernate statistics disabled - second-level cache metrics not registered");
+            return;
+        }
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            regionCounter(registry, statistics, "app.cache.l2.requests", region, "hit",
+                    CacheRegionStatistics::getHitCount);
+            regionCounter(registry, statistics, "app.cache.l2.requests", region, "miss",
+                    CacheRegionStatistics::getMissCount);
+            FunctionCounter.builder("app.cache.l2.puts", statistics,
+                            s -> regionCount(s, region, CacheRegionStatistics::getPutCount))
+                    .tag("region", region)
+                    .description("Entries stored in the second-level cache region")
+                    .register(registry);
+        }
+
+        FunctionCounter.builder("app.cache.query.requests", statistics, Statistics::getQueryCacheHitCount)
+                .tag("result", "hit")
+                .description("Query cache lookups")
+                .register(registry);
+        FunctionCounter.builder("app.cache.query.requests", statistics, Statistics::getQueryCacheMissCount)
+                .tag("result", "miss")
+                .description("Query cache lookups")
+                .register(registry);
+        FunctionCounter.builder("app.cache.query.puts", statistics, Statistics::getQueryCachePutCount)
+                .description("Query results stored in the query cache")
+                .register(registry);
+    }
+
+    private static void regionCounter(MeterRegistry registry, Statistics statistics, String name,
+                                      String region, String result, ToLongFunction<CacheRegionStatistics> count) {
+        FunctionCounter.builder(name, statistics, s -> regionCount(s, region, count))
+                .tag("region", region)
+                .tag("result", result)
+                .description("Second-level cache lookups")
+                .register(registry);
+    }
+
+    /**
+     * Region statistics are created lazily; report 0 until the region is first used.
+     */
+    private static double regionCount(Statistics statistics, String region,
+                                      ToLongFunction<CacheRegionStatistics> count) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+    }
+}
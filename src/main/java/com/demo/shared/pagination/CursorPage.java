@@ -0,0 +1,48 @@
+package com.demo.shared.pagination;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * Unlike Spring's Page, carries no total count (no COUNT query is run) and
+ * no page number. Pass nextCursor back as the cursor parameter to read the
+ * following page; it is null on the last page.
+ *
+ * Example response:
+ * {
+ *   "items": [{"id": 41, "hostname": "SERVER-041", ...}],
+ *   "size": 20,
+ *   "hasNext": true,
+ *   "nextCursor": "djEfaG9zdG5hbWUfQVNDHzQxH1NFUlZFUi0wNDE"
+ * }
+ *
+ * @see KeysetCursor for the cursor format
+ */
+@Schema(description = "Keyset-paginated page of results")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+
+    @Schema(description = "Items on this page")
+    private List<T> items;
+
+    @Schema(description = "Number of items on this page", example = "20")
+    private int size;
+
+    @Schema(description = "Whether another page follows", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Opaque cursor for the next page; null on the last page")
+    private String nextCursor;
+}
@@ -0,0 +1,88 @@
+package com.demo.shared.pagination;
+
+import com.demo.shared.exception.InvalidRequestException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque continuation token for keyset (seek) pagination.
+ *
+ * A cursor records the last row of a page as (sort key, id) together with
+ * the sort it was produced for, encoded as URL-safe Base64. The next page is
+ * read with WHERE (key, id) > (:key, :id) instead of OFFSET, so every page
+ * costs the same regardless of depth.
+ *
+ * Clients must treat cursors as opaque. A cursor is only valid for the sort
+ * it was issued with; anything else is rejected with 400.
+ *
+ * Supports sort keys with String values plus the Long id tie-breaker.
+ */
+public final class KeysetCursor {
+
+    public static final String ID = "id";
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "\u001F";
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Encodes the position after the last row of a page.
+     *
+     * @param order Sort the page was read with
+     * @param position Keyset position of the last row
+     * @return Opaque cursor
+     */
+    public static String encode(Sort.Order order, KeysetScrollPosition position) {
+        Map<String, Object> keys = position.getKeys();
+        String value = ID.equals(order.getProperty()) ? "" : String.valueOf(keys.get(order.getProperty()));
+        String raw = String.join(SEPARATOR,
+                VERSION, order.getProperty(), order.getDirection().name(), String.valueOf(keys.get(ID)), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into the position to continue from.
+     *
+     * @param cursor Cursor from a previous page, or null for the first page
+     * @param order Sort of the current request
+     * @return Position to scroll from
+     * @throws InvalidRequestException If the cursor is malformed or was issued for a different sort
+     */
+    public static KeysetScrollPosition decode(String cursor, Sort.Order order) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, 5);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("Malformed pagination cursor", ex);
+        }
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            throw new InvalidRequestException("Malformed pagination cursor");
+        }
+        if (!order.getProperty().equals(parts[1]) || !order.getDirection().name().equals(parts[2])) {
+            throw new InvalidRequestException("Pagination cursor was issued for a different sort");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (!ID.equals(order.getProperty())) {
+            keys.put(order.getProperty(), parts[4]);
+        }
+        try {
+            keys.put(ID, Long.valueOf(parts[3]));
+        } catch (NumberFormatException ex) {
+            throw new InvalidRequestException("Malformed pagination cursor", ex);
+        }
+        return ScrollPosition.forward(keys);
+    }
+}
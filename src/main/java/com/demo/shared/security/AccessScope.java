@@ -0,0 +1,32 @@
+package com.demo.shared.security;
+
+import java.util.Set;
+
+/**
+ * What a caller may access of a resource type for one operation: the scopes
+ * their role grants and the caller attributes those scopes are evaluated
+ * against. List queries turn it into predicates (OWN: created by userId,
+ * DEPARTMENT: in department) instead of checking each object.
+ *
+ * @param scopes Granted scopes; empty if the caller holds no such permission
+ * @param userId Caller's user ID, or null if the caller has no user account
+ * @param department Caller's department, or null if unknown
+ */
+public record AccessScope(Set<PermissionScope> scopes, Long userId, String department) {
+
+    /**
+     * Access to every object, independent of the caller.
+     */
+    public static final AccessScope UNRESTRICTED = new AccessScope(Set.of(PermissionScope.ALL), null, null);
+
+    public AccessScope {
+        scopes = Set.copyOf(scopes);
+    }
+
+    /**
+     * Returns true if the ALL scope is granted, so no object is excluded.
+     */
+    public boolean isUnrestricted() {
+        return scopes.contains(PermissionScope.ALL);
+    }
+}
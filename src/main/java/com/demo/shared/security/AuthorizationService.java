@@ -6,7 +6,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service for checking object-level and field-level authorization.
@@ -17,6 +19,7 @@ import java.util.Map;
 public class AuthorizationService {
     
     private final RolePermissionService rolePermissionService;
+    private final CurrentUserService currentUserService;
     
     /**
      * Check if a user can perform an operation on a resource type.
@@ -25,7 +28,7 @@ public class AuthorizationService {
         String roleName = user.getRole().getName();
         
         // Check for ALL scope first
-        if (rolePermissionService.hasPermission(roleName, resourceType, operation, "ALL")) {
+        if (rolePermissionService.hasPermission(roleName, resourceType, operation, PermissionScope.ALL)) {
             return true;
         }
         
@@ -36,66 +39,93 @@ public class AuthorizationService {
     /**
      * Check if a user can access a specific ComputerSystem.
      * Takes into account permission scope (OWN, DEPARTMENT, ALL).
+     *
+     * For lists, filter in the query with getAccessScope instead of calling
+     * this per object.
      */
     public boolean canAccessComputerSystem(User user, ComputerSystem computerSystem, String operation) {
         String roleName = user.getRole().getName();
         
         // Check ALL scope
-        if (rolePermissionService.hasPermission(roleName, "ComputerSystem", operation, "ALL")) {
+        if (rolePermissionService.hasPermission(roleName, "ComputerSystem", operation, PermissionScope.ALL)) {
             return true;
         }
         
         // Check DEPARTMENT scope
-        if (rolePermissionService.hasPermission(roleName, "ComputerSystem", operation, "DEPARTMENT")) {
-            if (computerSystem.getDepartment().equals(user.getDepartment())) {
-                return true;
-            }
+        if (rolePermissionService.hasPermission(roleName, "ComputerSystem", operation, PermissionScope.DEPARTMENT)
+                && computerSystem.getDepartment().equals(user.getDepartment())) {
+            return true;
         }
         
-        // Check OWN scope
-        if (rolePermissionService.hasPermission(roleName, "ComputerSystem", operation, "OWN")) {
-            if (computerSystem.getCreatedBy() != null && 
-                computerSystem.getCreatedBy().getId().equals(user.getId())) {
-                return true;
-            }
+        // Check OWN scope; reading the id of a lazy createdBy does not load it
+        return rolePermissionService.hasPermission(roleName, "ComputerSystem", operation, PermissionScope.OWN)
+                && computerSystem.getCreatedBy() != null
+                && computerSystem.getCreatedBy().getId().equals(user.getId());
+    }
+    
+    /**
+     * Scopes the user's role holds for an operation on a resource type.
+     */
+    public Set<PermissionScope> getGrantedScopes(User user, String resourceType, String operation) {
+        return rolePermissionService.getGrantedScopes(user.getRole().getName(), resourceType, operation);
+    }
+    
+    /**
+     * Access the user has to a resource type for an operation, for filtering lists in the query.
+     */
+    public AccessScope getAccessScope(User user, String resourceType, String operation) {
+        return new AccessScope(getGrantedScopes(user, resourceType, operation), user.getId(), user.getDepartment());
+    }
+    
+    /**
+     * Access the authenticated principal of the current request has to a
+     * resource type for an operation.
+     *
+     * Principals with a user account get their account's role and attributes.
+     * Principals without one (directory-only users, token subjects) get the
+     * scopes of their ROLE_ authorities; OWN and DEPARTMENT never match for
+     * them, since there is no user ID or department to compare.
+     */
+    public AccessScope getCurrentAccessScope(String resourceType, String operation) {
+        Optional<User> user = currentUserService.getCurrentUser();
+        if (user.isPresent()) {
+            return getAccessScope(user.get(), resourceType, operation);
         }
-        
-        return false;
+        Set<PermissionScope> scopes = EnumSet.noneOf(PermissionScope.class);
+        for (String roleName : currentUserService.getCurrentRoleNames()) {
+            scopes.addAll(rolePermissionService.getGrantedScopes(roleName, resourceType, operation));
+        }
+        return new AccessScope(scopes, null, null);
     }
     
     /**
      * Check if a user can read a specific field.
+     * Fields without a specific permission default to READ.
      */
     public boolean canReadField(User user, String resourceType, String fieldName) {
-        String roleName = user.getRole().getName();
-        Map<String, String> fieldPermissions = 
-            rolePermissionService.getFieldPermissions(roleName, resourceType, "READ");
-        
-        String permission = fieldPermissions.get(fieldName);
-        
-        // If no specific permission is set, default to READ
-        if (permission == null) {
-            return true;
-        }
-        
-        return !permission.equals("HIDDEN");
+        return getReadFieldMask(user, resourceType).canRead(fieldName);
     }
     
     /**
      * Check if a user can write to a specific field.
+     * Fields without a specific permission default to WRITE allowed.
      */
     public boolean canWriteField(User user, String resourceType, String fieldName) {
-        String roleName = user.getRole().getName();
-        Map<String, String> fieldPermissions = 
-            rolePermissionService.getFieldPermissions(roleName, resourceType, "WRITE");
-        
-        String permission = fieldPermissions.get(fieldName);
-        
-        // If no specific permission is set, default to WRITE allowed
-        if (permission == null) {
-            return true;
-        }
-        
-        return permission.equals("WRITE");
+        return getWriteFieldMask(user, resourceType).canWrite(fieldName);
+    }
+    
+    /**
+     * Field mask for reading a resource type. Resolve it once per request or
+     * page and check each field against it.
+     */
+    public FieldMask getReadFieldMask(User user, String resourceType) {
+        return rolePermissionService.getFieldMask(user.getRole().getName(), resourceType, "READ");
+    }
+    
+    /**
+     * Field mask for writing a resource type.
+     */
+    public FieldMask getWriteFieldMask(User user, String resourceType) {
+        return rolePermissionService.getFieldMask(user.getRole().getName(), resourceType, "WRITE");
     }
 }
@@ -0,0 +1,71 @@
+package com.demo.shared.security;
+
+import com.demo.application.user.UserRepository;
+import com.demo.domain.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Resolves the authenticated principal of the current request to its user
+ * account.
+ *
+ * Every authentication method names the principal by username (basic auth,
+ * directory login, JWT subject, API token owner), so the account is looked
+ * up with findByUsername, which is served from the query cache. Directory
+ * users and token subjects need not have an account; for them only the
+ * role authorities are known.
+ */
+@Service
+@RequiredArgsConstructor
+public class CurrentUserService {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final UserRepository userRepository;
+
+    /**
+     * Returns the user account of the authenticated principal, if it has one.
+     */
+    public Optional<User> getCurrentUser() {
+        Authentication authentication = currentAuthentication();
+        if (authentication == null) {
+            return Optional.empty();
+        }
+        return userRepository.findByUsername(authentication.getName());
+    }
+
+    /**
+     * Returns the role names granted to the principal as ROLE_ authorities,
+     * without the prefix. Empty if not authenticated.
+     */
+    public Set<String> getCurrentRoleNames() {
+        Authentication authentication = currentAuthentication();
+        Set<String> roleNames = new HashSet<>();
+        if (authentication != null) {
+            for (GrantedAuthority authority : authentication.getAuthorities()) {
+                String name = authority.getAuthority();
+                if (name != null && name.startsWith(ROLE_PREFIX)) {
+                    roleNames.add(name.substring(ROLE_PREFIX.length()));
+                }
+            }
+        }
+        return roleNames;
+    }
+
+    private static Authentication currentAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication;
+    }
+}
@@ -0,0 +1,159 @@
+package com.demo.shared.security;
+
+import com.demo.application.security.auth.PermissionVersionRepository;
+import com.demo.domain.security.permissionversion.PermissionVersion;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus for several instances sharing one database.
+ *
+ * publish increments one version stamp per affected role in the
+ * permission_versions table, in the caller's transaction, so the stamp
+ * commits or rolls back with the permission change itself. Each instance
+ * reads the table every poll interval and notifies its subscribers of the
+ * roles whose stamp moved. Another instance therefore serves stale
+ * permissions for at most one poll interval plus the reload of those roles.
+ *
+ * Subscribers on the publishing instance are also notified right after
+ * commit, and once more when the next poll sees the stamp; reloading a
+ * role twice is harmless.
+ *
+ * The first change to a role inserts its row. Two instances doing that for
+ * the same role at the same moment violate the unique constraint, and one
+ * of the two changes fails and must be retried.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app_config.auth.permission-invalidation", name = "bus", havingValue = "database")
+public class DatabasePermissionInvalidationBus implements PermissionInvalidationBus {
+
+    private final PermissionVersionRepository repository;
+    private final Duration pollInterval;
+    private final LocalPermissionInvalidationBus localBus = new LocalPermissionInvalidationBus();
+
+    // Last stamp seen per role; only replaced by the polling thread
+    private volatile Map<String, Long> seenVersions = Map.of();
+
+    private ScheduledExecutorService poller;
+
+    public DatabasePermissionInvalidationBus(
+            PermissionVersionRepository repository,
+            @Value("${app_config.auth.permission-invalidation.poll-interval:PT5S}") Duration pollInterval) {
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("Permission invalidation poll interval must be positive");
+        }
+        this.repository = repository;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Records the current stamps before any permissions are loaded, so that
+     * changes from then on are picked up by the first poll.
+     */
+    @PostConstruct
+    void readInitialVersions() {
+        seenVersions = currentVersions();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPolling() {
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "permission-invalidation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::pollSafely,
+                pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Polling permission versions every {}", pollInterval);
+    }
+
+    @PreDestroy
+    void stopPolling() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    @Override
+    @Transactional
+    public void publish(PermissionInvalidation invalidation) {
+        if (invalidation.isEmpty()) {
+            return;
+        }
+        Set<String> roleNames = invalidation.allRoles() ? Set.of(PermissionVersion.ALL_ROLES) : invalidation.roles();
+        int updated = repository.incrementVersions(roleNames, LocalDateTime.now());
+        if (updated < roleNames.size()) {
+            Set<String> existing = repository.findExistingRoleNames(roleNames);
+            for (String roleName : roleNames) {
+                if (!existing.contains(roleName)) {
+                    repository.save(PermissionVersion.builder().roleName(roleName).build());
+                }
+            }
+        }
+        localBus.publish(invalidation);
+    }
+
+    @Override
+    public void subscribe(Consumer<PermissionInvalidation> listener) {
+        localBus.subscribe(listener);
+    }
+
+    /**
+     * Notifies subscribers of every role whose stamp changed since the last
+     * poll. If a subscriber fails, the stamps are not advanced and the same
+     * roles are reported again on the next poll.
+     */
+    void poll() {
+        Map<String, Long> current = currentVersions();
+        Map<String, Long> seen = seenVersions;
+        Set<String> changed = new HashSet<>();
+        current.forEach((roleName, version) -> {
+            if (!version.equals(seen.get(roleName))) {
+                changed.add(roleName);
+            }
+        });
+        if (!changed.isEmpty()) {
+            log.debug("Permission versions changed for roles {}", changed);
+            localBus.notifyListeners(changed.contains(PermissionVersion.ALL_ROLES)
+                    ? PermissionInvalidation.all()
+                    : PermissionInvalidation.ofRoles(changed));
+        }
+        seenVersions = current;
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException ex) {
+            // Keep the schedule alive; the next poll retries
+            log.warn("Polling permission versions failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private Map<String, Long> currentVersions() {
+        Map<String, Long> versions = new HashMap<>();
+        for (PermissionVersion version : repository.findAll()) {
+            versions.put(version.getRoleName(), version.getVersion());
+        }
+        return versions;
+    }
+}
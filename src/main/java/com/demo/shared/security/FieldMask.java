@@ -0,0 +1,84 @@
+package com.demo.shared.security;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pre-parsed field permissions of one role for one resource type and operation.
+ *
+ * Fields are numbered by a per-resource-type ordinal table shared by all masks
+ * of that resource type. A field check is one map lookup and one bit test.
+ * Fields without an explicit permission are readable and writable.
+ *
+ * Instances are immutable and built by PermissionIndex when the permission
+ * cache is loaded.
+ */
+public final class FieldMask {
+
+    /**
+     * Mask with no field restrictions.
+     */
+    public static final FieldMask UNRESTRICTED = new FieldMask(Map.of(), new BitSet(), new BitSet(), Map.of());
+
+    private final Map<String, Integer> ordinals;
+    private final BitSet hidden;
+    private final BitSet notWritable;
+    private final Map<String, String> permissions;
+
+    FieldMask(Map<String, Integer> ordinals, BitSet hidden, BitSet notWritable, Map<String, String> permissions) {
+        this.ordinals = ordinals;
+        this.hidden = hidden;
+        this.notWritable = notWritable;
+        this.permissions = permissions;
+    }
+
+    /**
+     * Builds a mask from a parsed fieldPermissions map (field name to READ, WRITE or HIDDEN).
+     *
+     * @param ordinals Field ordinal table of the resource type; must contain every key of permissions
+     */
+    static FieldMask of(Map<String, Integer> ordinals, Map<String, String> permissions) {
+        BitSet hidden = new BitSet(ordinals.size());
+        BitSet notWritable = new BitSet(ordinals.size());
+        Map<String, String> explicit = new HashMap<>();
+        permissions.forEach((field, permission) -> {
+            if (permission == null) {
+                // No explicit permission: same as an absent field
+                return;
+            }
+            explicit.put(field, permission);
+            int ordinal = ordinals.get(field);
+            if ("HIDDEN".equals(permission)) {
+                hidden.set(ordinal);
+            }
+            if (!"WRITE".equals(permission)) {
+                notWritable.set(ordinal);
+            }
+        });
+        return new FieldMask(ordinals, hidden, notWritable, Map.copyOf(explicit));
+    }
+
+    /**
+     * Returns false only if the field is HIDDEN.
+     */
+    public boolean canRead(String fieldName) {
+        Integer ordinal = ordinals.get(fieldName);
+        return ordinal == null || !hidden.get(ordinal);
+    }
+
+    /**
+     * Returns false if the field has a permission other than WRITE.
+     */
+    public boolean canWrite(String fieldName) {
+        Integer ordinal = ordinals.get(fieldName);
+        return ordinal == null || !notWritable.get(ordinal);
+    }
+
+    /**
+     * Field name to permission level (READ, WRITE, HIDDEN), as stored.
+     */
+    public Map<String, String> permissions() {
+        return permissions;
+    }
+}
@@ -1,8 +1,15 @@
 package com.demo.shared.security;
 
 import com.demo.domain.user.User;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import tools.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.PropertyWriter;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -10,37 +17,80 @@ import java.util.Map;
 
 /**
  * Service for filtering DTO fields based on user permissions.
+ *
+ * Responses are filtered while Jackson writes them: readableFieldsWriter
+ * returns an ObjectWriter whose PropertyFilter skips fields the user's
+ * FieldMask hides, so no intermediate map is built and a filtered response
+ * costs the same as an unfiltered one. Writers are cached per resource type
+ * and mask contents, not mask instance: every permission reload builds new
+ * FieldMask instances, and a reload that leaves a role's field permissions
+ * unchanged keeps using the same writer. The cache is bounded, so masks
+ * that no role uses any more are eventually dropped.
+ *
+ * No controller uses this service yet: computer system responses are
+ * written by the application ObjectMapper without field filtering. To
+ * filter an endpoint, write its body with readableFieldsWriter for the
+ * authenticated user (see CurrentUserService).
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class FieldPermissionFilterService {
     
+    static final String FILTER_ID = "fieldPermissionFilter";
+    
+    // Distinct (resource type, field permissions) pairs in use are few: roles times resource types
+    private static final int MAX_CACHED_WRITERS = 256;
+    
     private final AuthorizationService authorizationService;
     private final FieldPermissionsConfig fieldPermissionsConfig;
     private final ObjectMapper objectMapper;
     
+    // Copy of the application mapper that routes every bean through FILTER_ID
+    private final ObjectMapper filteringMapper;
+    
+    // Writer applying a mask, keyed by resource type and the mask's field permissions
+    private final Cache<WriterKey, ObjectWriter> writers = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_WRITERS)
+        .build();
+    
+    public FieldPermissionFilterService(AuthorizationService authorizationService,
+                                        FieldPermissionsConfig fieldPermissionsConfig,
+                                        ObjectMapper objectMapper) {
+        this.authorizationService = authorizationService;
+        this.fieldPermissionsConfig = fieldPermissionsConfig;
+        this.objectMapper = objectMapper;
+        this.filteringMapper = objectMapper.rebuild()
+            .addMixIn(Object.class, FieldPermissionFilterMixIn.class)
+            .build();
+    }
+    
+    /**
+     * Returns a writer that serializes values of the resource type with only
+     * the fields the user can read. The filter applies to the properties of
+     * every bean in the written value, so lists and pages can be written as is.
+     */
+    public ObjectWriter readableFieldsWriter(User user, String resourceType) {
+        FieldMask readMask = authorizationService.getReadFieldMask(user, resourceType);
+        return writers.get(new WriterKey(resourceType, readMask.permissions()),
+            key -> filteringMapper.writer(new SimpleFilterProvider()
+                .addFilter(FILTER_ID, new ReadableFieldsFilter(resourceType, readMask))));
+    }
+    
     /**
      * Filter fields from a DTO based on user's read permissions.
      * Returns a map representation with only allowed fields.
+     *
+     * Builds an intermediate map per DTO; prefer readableFieldsWriter when
+     * the result is only serialized.
      */
     public Map<String, Object> filterReadableFields(User user, Object dto, String resourceType) {
         // Convert DTO to map
         @SuppressWarnings("unchecked")
         Map<String, Object> dtoMap = objectMapper.convertValue(dto, Map.class);
+        FieldMask readMask = authorizationService.getReadFieldMask(user, resourceType);
         
         // Remove fields the user cannot read
-        dtoMap.entrySet().removeIf(entry -> {
-            String fieldName = entry.getKey();
-            
-            // Check if field is hidden
-            if (fieldPermissionsConfig.isHidden(resourceType, fieldName)) {
-                return true;
-            }
-            
-            // Check user's read permission
-            return !authorizationService.canReadField(user, resourceType, fieldName);
-        });
+        dtoMap.keySet().removeIf(fieldName -> !isReadable(resourceType, readMask, fieldName));
         
         return dtoMap;
     }
@@ -51,6 +101,7 @@ public class FieldPermissionFilterService {
      */
     public void validateWritableFields(User user, Map<String, Object> fieldsToWrite, 
                                       String resourceType, boolean isUpdate) {
+        FieldMask writeMask = authorizationService.getWriteFieldMask(user, resourceType);
         for (String fieldName : fieldsToWrite.keySet()) {
             // Check if field is immutable and this is an update
             if (isUpdate && fieldPermissionsConfig.isImmutable(resourceType, fieldName)) {
@@ -63,9 +114,50 @@ public class FieldPermissionFilterService {
             }
             
             // Check user's write permission
-            if (!authorizationService.canWriteField(user, resourceType, fieldName)) {
+            if (!writeMask.canWrite(fieldName)) {
                 throw new SecurityException("You do not have permission to modify field: " + fieldName);
             }
         }
     }
+    
+    private boolean isReadable(String resourceType, FieldMask readMask, String fieldName) {
+        return !fieldPermissionsConfig.isHidden(resourceType, fieldName) && readMask.canRead(fieldName);
+    }
+    
+    /**
+     * Masks with equal field permissions filter identically, so the writer
+     * built for one serves all of them.
+     */
+    private record WriterKey(String resourceType, Map<String, String> fieldPermissions) {
+    }
+    
+    /**
+     * Skips properties that are hidden for the resource type or by the mask.
+     */
+    private final class ReadableFieldsFilter extends SimpleBeanPropertyFilter {
+        private final String resourceType;
+        private final FieldMask readMask;
+        
+        private ReadableFieldsFilter(String resourceType, FieldMask readMask) {
+            this.resourceType = resourceType;
+            this.readMask = readMask;
+        }
+        
+        @Override
+        protected boolean include(BeanPropertyWriter writer) {
+            return isReadable(resourceType, readMask, writer.getName());
+        }
+        
+        @Override
+        protected boolean include(PropertyWriter writer) {
+            return isReadable(resourceType, readMask, writer.getName());
+        }
+    }
+    
+    /**
+     * Mix-in for Object that assigns FILTER_ID to every bean written by filteringMapper.
+     */
+    @JsonFilter(FILTER_ID)
+    private static final class FieldPermissionFilterMixIn {
+    }
 }
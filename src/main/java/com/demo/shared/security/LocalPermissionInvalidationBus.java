@@ -0,0 +1,61 @@
+package com.demo.shared.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-JVM invalidation bus: notifies this instance's subscribers only.
+ *
+ * Suitable for a single instance. With several instances behind a load
+ * balancer, the others keep stale permissions until they are restarted; use
+ * the database bus there.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app_config.auth.permission-invalidation", name = "bus",
+        havingValue = "local", matchIfMissing = true)
+public class LocalPermissionInvalidationBus implements PermissionInvalidationBus {
+
+    private final List<Consumer<PermissionInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Notifies subscribers after the current transaction commits, or right
+     * away if no transaction is active. Nothing is sent on rollback.
+     */
+    @Override
+    public void publish(PermissionInvalidation invalidation) {
+        if (invalidation.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notifyListeners(invalidation);
+                }
+            });
+        } else {
+            notifyListeners(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<PermissionInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Runs every listener on the calling thread. A listener that throws
+     * stops the remaining ones and propagates to the caller.
+     */
+    void notifyListeners(PermissionInvalidation invalidation) {
+        for (Consumer<PermissionInvalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+}
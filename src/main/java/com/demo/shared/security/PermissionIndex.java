@@ -0,0 +1,222 @@
+package com.demo.shared.security;
+
+import com.demo.domain.security.permission.Permission;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, precompiled view of all role permissions.
+ *
+ * Role names, resource types and operations are interned to dense int IDs
+ * when the index is built. Granted scopes are kept as one bitmask per
+ * (role, resource type, operation) cell, bit = PermissionScope ordinal, in a
+ * flat array. A permission check is three map lookups on strings whose hash
+ * codes are already cached, one array read and a bit test, with no allocation.
+ *
+ * The fieldPermissions JSON is parsed here too, once per load, into a
+ * FieldMask per cell over a field-ordinal table per resource type.
+ *
+ * Instances are never modified; RolePermissionService builds a new one on
+ * reload, or derives one with withRoles when only some roles changed, and
+ * swaps it in.
+ */
+@Slf4j
+final class PermissionIndex {
+
+    private static final int ALL_BIT = bit(PermissionScope.ALL);
+
+    private static final TypeReference<LinkedHashMap<String, String>> FIELD_PERMISSIONS_TYPE = new TypeReference<>() {};
+
+    private final Map<String, Integer> roleIds;
+    private final Map<String, Integer> resourceTypeIds;
+    private final Map<String, Integer> operationIds;
+    private final byte[] scopeMasks;
+    private final FieldMask[] fieldMasks;
+    private final Map<String, List<Permission>> permissionsByRole;
+
+    private PermissionIndex(Map<String, Integer> roleIds, Map<String, Integer> resourceTypeIds,
+                            Map<String, Integer> operationIds, byte[] scopeMasks, FieldMask[] fieldMasks,
+                            Map<String, List<Permission>> permissionsByRole) {
+        this.roleIds = roleIds;
+        this.resourceTypeIds = resourceTypeIds;
+        this.operationIds = operationIds;
+        this.scopeMasks = scopeMasks;
+        this.fieldMasks = fieldMasks;
+        this.permissionsByRole = permissionsByRole;
+    }
+
+    /**
+     * Builds the index from each role's permissions.
+     *
+     * Permissions with a scope that is not a PermissionScope grant nothing.
+     * For field permissions, the first permission per (role, resource type,
+     * operation) with non-empty, parseable JSON applies.
+     */
+    static PermissionIndex build(Map<String, List<Permission>> permissionsByRole, ObjectMapper objectMapper) {
+        Map<String, Integer> roleIds = new HashMap<>();
+        Map<String, Integer> resourceTypeIds = new HashMap<>();
+        Map<String, Integer> operationIds = new HashMap<>();
+        permissionsByRole.forEach((role, permissions) -> {
+            roleIds.putIfAbsent(role, roleIds.size());
+            for (Permission p : permissions) {
+                resourceTypeIds.putIfAbsent(p.getResourceType(), resourceTypeIds.size());
+                operationIds.putIfAbsent(p.getOperation(), operationIds.size());
+            }
+        });
+        int resourceCount = resourceTypeIds.size();
+        int opCount = operationIds.size();
+
+        byte[] scopeMasks = new byte[roleIds.size() * resourceCount * opCount];
+        Map<Integer, Map<String, String>> parsedFieldPermissions = new HashMap<>();
+        List<Map<String, Integer>> fieldOrdinals = new ArrayList<>();
+        for (int i = 0; i < resourceCount; i++) {
+            fieldOrdinals.add(new HashMap<>());
+        }
+        Map<String, List<Permission>> copies = new HashMap<>();
+
+        permissionsByRole.forEach((role, permissions) -> {
+            copies.put(role, List.copyOf(permissions));
+            for (Permission p : permissions) {
+                int resource = resourceTypeIds.get(p.getResourceType());
+                int cell = cell(roleIds.get(role), resource, operationIds.get(p.getOperation()), resourceCount, opCount);
+
+                PermissionScope scope = PermissionScope.of(p.getScope());
+                if (scope == null) {
+                    log.warn("Ignoring scope of permission {}: unknown scope '{}'", p.getId(), p.getScope());
+                } else {
+                    scopeMasks[cell] |= (byte) bit(scope);
+                }
+
+                if (!parsedFieldPermissions.containsKey(cell)) {
+                    Map<String, String> fields = parseFieldPermissions(p, objectMapper);
+                    if (fields != null) {
+                        parsedFieldPermissions.put(cell, fields);
+                        Map<String, Integer> ordinals = fieldOrdinals.get(resource);
+                        fields.keySet().forEach(field -> ordinals.putIfAbsent(field, ordinals.size()));
+                    }
+                }
+            }
+        });
+
+        List<Map<String, Integer>> frozenOrdinals = fieldOrdinals.stream().map(Map::copyOf).toList();
+        FieldMask[] fieldMasks = new FieldMask[scopeMasks.length];
+        parsedFieldPermissions.forEach((cell, fields) ->
+                fieldMasks[cell] = FieldMask.of(frozenOrdinals.get(resourceOf(cell, resourceCount, opCount)), fields));
+
+        return new PermissionIndex(Map.copyOf(roleIds), Map.copyOf(resourceTypeIds), Map.copyOf(operationIds),
+                scopeMasks, fieldMasks, Map.copyOf(copies));
+    }
+
+    /**
+     * Returns a new index with the given roles' permissions replaced.
+     *
+     * The other roles keep the permission lists they were loaded with, so only
+     * the given roles have to be read from the database; the lookup tables are
+     * rebuilt in memory. Roles reloaded with no permissions are dropped, which
+     * answers every check the same way as a role that does not exist.
+     */
+    PermissionIndex withRoles(Map<String, List<Permission>> reloaded, ObjectMapper objectMapper) {
+        Map<String, List<Permission>> merged = new HashMap<>(permissionsByRole);
+        reloaded.forEach((role, permissions) -> {
+            if (permissions.isEmpty()) {
+                merged.remove(role);
+            } else {
+                merged.put(role, permissions);
+            }
+        });
+        return build(merged, objectMapper);
+    }
+
+    /**
+     * Returns the parsed fieldPermissions JSON, or null if it is empty or cannot be parsed.
+     */
+    private static Map<String, String> parseFieldPermissions(Permission permission, ObjectMapper objectMapper) {
+        String json = permission.getFieldPermissions();
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, FIELD_PERMISSIONS_TYPE);
+        } catch (Exception e) {
+            log.error("Error parsing field permissions JSON of permission {}: {}", permission.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if the role holds the operation on the resource type with
+     * the given scope or with ALL. A null scope matches ALL only.
+     */
+    boolean hasPermission(String roleName, String resourceType, String operation, PermissionScope scope) {
+        int cell = cellOf(roleName, resourceType, operation);
+        if (cell < 0) {
+            return false;
+        }
+        int wanted = scope == null ? ALL_BIT : bit(scope) | ALL_BIT;
+        return (scopeMasks[cell] & wanted) != 0;
+    }
+
+    /**
+     * Returns the scopes the role holds for the operation on the resource type.
+     */
+    Set<PermissionScope> grantedScopes(String roleName, String resourceType, String operation) {
+        Set<PermissionScope> scopes = EnumSet.noneOf(PermissionScope.class);
+        int cell = cellOf(roleName, resourceType, operation);
+        if (cell >= 0) {
+            for (PermissionScope scope : PermissionScope.values()) {
+                if ((scopeMasks[cell] & bit(scope)) != 0) {
+                    scopes.add(scope);
+                }
+            }
+        }
+        return scopes;
+    }
+
+    /**
+     * Returns the role's field mask for the resource type and operation;
+     * FieldMask.UNRESTRICTED if no field permissions apply.
+     */
+    FieldMask fieldMask(String roleName, String resourceType, String operation) {
+        int cell = cellOf(roleName, resourceType, operation);
+        FieldMask mask = cell < 0 ? null : fieldMasks[cell];
+        return mask != null ? mask : FieldMask.UNRESTRICTED;
+    }
+
+    /**
+     * Returns the role's permissions, or an empty list for unknown roles.
+     */
+    List<Permission> permissionsFor(String roleName) {
+        return permissionsByRole.getOrDefault(roleName, List.of());
+    }
+
+    private int cellOf(String roleName, String resourceType, String operation) {
+        Integer role = roleIds.get(roleName);
+        Integer resource = resourceTypeIds.get(resourceType);
+        Integer op = operationIds.get(operation);
+        if (role == null || resource == null || op == null) {
+            return -1;
+        }
+        return cell(role, resource, op, resourceTypeIds.size(), operationIds.size());
+    }
+
+    private static int cell(int role, int resource, int op, int resourceCount, int opCount) {
+        return (role * resourceCount + resource) * opCount + op;
+    }
+
+    private static int resourceOf(int cell, int resourceCount, int opCount) {
+        return (cell / opCount) % resourceCount;
+    }
+
+    private static int bit(PermissionScope scope) {
+        return 1 << scope.ordinal();
+    }
+}
@@ -0,0 +1,48 @@
+package com.demo.shared.security;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Roles whose permissions changed and must be reloaded.
+ *
+ * @param allRoles True if every role must be reloaded; roles is then empty
+ * @param roles Names of the affected roles
+ */
+public record PermissionInvalidation(boolean allRoles, Set<String> roles) {
+
+    private static final PermissionInvalidation ALL = new PermissionInvalidation(true, Set.of());
+
+    public PermissionInvalidation {
+        roles = Set.copyOf(roles);
+    }
+
+    /**
+     * Invalidation of every role, e.g. after changes made directly in the database.
+     */
+    public static PermissionInvalidation all() {
+        return ALL;
+    }
+
+    /**
+     * Invalidation of the given roles only.
+     */
+    public static PermissionInvalidation ofRoles(Collection<String> roleNames) {
+        return new PermissionInvalidation(false, Set.copyOf(roleNames));
+    }
+
+    /**
+     * Invalidation of the given roles only.
+     */
+    public static PermissionInvalidation ofRoles(String... roleNames) {
+        return ofRoles(List.of(roleNames));
+    }
+
+    /**
+     * Returns true if nothing needs to be reloaded.
+     */
+    public boolean isEmpty() {
+        return !allRoles && roles.isEmpty();
+    }
+}
@@ -0,0 +1,30 @@
+package com.demo.shared.security;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries role permission changes to every RolePermissionService that must
+ * refresh its PermissionIndex.
+ *
+ * Selected by app_config.auth.permission-invalidation.bus:
+ * - local (default): LocalPermissionInvalidationBus, this instance only
+ * - database: DatabasePermissionInvalidationBus, every instance sharing the
+ *   database, within one poll interval
+ *
+ * Publishers call publish inside the transaction that changes the
+ * permissions. Subscribers are notified only after it commits, so they never
+ * reload uncommitted or rolled-back state.
+ */
+public interface PermissionInvalidationBus {
+
+    /**
+     * Announces that the given roles' permissions changed.
+     */
+    void publish(PermissionInvalidation invalidation);
+
+    /**
+     * Registers a listener for invalidations published on any instance the
+     * bus reaches. Listeners run on the publishing or polling thread.
+     */
+    void subscribe(Consumer<PermissionInvalidation> listener);
+}
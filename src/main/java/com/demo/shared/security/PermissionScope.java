@@ -0,0 +1,30 @@
+package com.demo.shared.security;
+
+/**
+ * Scope of a permission: which objects of a resource type it covers.
+ * Stored by name in the permissions.scope column.
+ */
+public enum PermissionScope {
+    /** Objects created by the user. */
+    OWN,
+    /** Objects in the user's department. */
+    DEPARTMENT,
+    /** All objects; implies every other scope. */
+    ALL;
+
+    private static final PermissionScope[] VALUES = values();
+
+    /**
+     * Resolves a stored scope name without throwing.
+     *
+     * @return The scope, or null if the name is not a known scope
+     */
+    public static PermissionScope of(String name) {
+        for (PermissionScope scope : VALUES) {
+            if (scope.name().equals(name)) {
+                return scope;
+            }
+        }
+        return null;
+    }
+}
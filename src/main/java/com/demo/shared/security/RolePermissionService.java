@@ -5,18 +5,26 @@ import com.demo.application.security.auth.PermissionRepository;
 import com.demo.application.security.auth.RolePermissionRepository;
 import com.demo.application.security.auth.RoleRepository;
 import com.demo.domain.security.permission.Permission;
-import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service that loads and caches role permissions.
  * Provides methods to check permissions and reload cache without redeployment.
+ *
+ * The cache is an immutable PermissionIndex of every role, built on first use
+ * and rebuilt by reloadCache. Readers always see one complete index: a reload
+ * builds the new index aside and publishes it with a single volatile write.
+ *
+ * Permission changes arrive through the PermissionInvalidationBus, from this
+ * instance or, with the database bus, from any instance. Only the affected
+ * roles are read again; a full reload happens only for invalidations of
+ * every role.
  */
 @Service
 @Slf4j
@@ -27,69 +35,105 @@ public class RolePermissionService {
     private final PermissionRepository permissionRepository;
     private final RolePermissionRepository rolePermissionRepository;
     private final ObjectMapper objectMapper;
+    private final PermissionInvalidationBus invalidationBus;
     
-    // Cache: roleName -> list of permissions
-    private final Map<String, List<Permission>> rolePermissionsCache = new ConcurrentHashMap<>();
+    // Current index; null until first use or reload
+    private volatile PermissionIndex index;
     
     /**
      * Get all permissions for a role.
-     * Uses cache if available, otherwise loads from database.
+     * Returns an empty list for roles that do not exist.
      */
     public List<Permission> getPermissionsForRole(String roleName) {
-        if (rolePermissionsCache.containsKey(roleName)) {
-            return rolePermissionsCache.get(roleName);
-        }
-        
-        return loadPermissionsForRole(roleName);
+        return currentIndex().permissionsFor(roleName);
+    }
+    
+    /**
+     * Reload all role permissions from database on this instance only.
+     * To reach every instance, publish PermissionInvalidation.all() on the bus.
+     */
+    public synchronized void reloadCache() {
+        log.info("Reloading role permissions cache");
+        index = loadIndex();
+        log.info("Role permissions cache reloaded successfully");
+    }
+    
+    @PostConstruct
+    void subscribeToInvalidations() {
+        invalidationBus.subscribe(this::refresh);
     }
     
     /**
-     * Load permissions for a role from database and cache them.
+     * Reload the permissions of the invalidated roles.
+     * Roles that were not invalidated keep their loaded permissions.
      */
-    private List<Permission> loadPermissionsForRole(String roleName) {
-        Optional<Role> roleOpt = roleRepository.findByName(roleName);
-        if (roleOpt.isEmpty()) {
-            log.warn("Role not found: {}", roleName);
-            return Collections.emptyList();
+    public synchronized void refresh(PermissionInvalidation invalidation) {
+        if (invalidation.allRoles()) {
+            reloadCache();
+            return;
         }
-        
-        Role role = roleOpt.get();
-        List<Permission> permissions = rolePermissionRepository.findPermissionsByRole(role);
-        rolePermissionsCache.put(roleName, permissions);
-        
-        log.debug("Loaded {} permissions for role: {}", permissions.size(), roleName);
-        return permissions;
+        PermissionIndex current = index;
+        if (current == null || invalidation.isEmpty()) {
+            // Nothing loaded yet; the first use reads the current state
+            return;
+        }
+        Map<String, List<Permission>> reloaded = new HashMap<>();
+        for (String roleName : invalidation.roles()) {
+            reloaded.put(roleName, rolePermissionRepository.findPermissionsByRoleName(roleName));
+        }
+        index = current.withRoles(reloaded, objectMapper);
+        log.info("Reloaded permissions for roles {}", invalidation.roles());
+    }
+    
+    private PermissionIndex currentIndex() {
+        PermissionIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                current = index;
+                if (current == null) {
+                    current = loadIndex();
+                    index = current;
+                }
+            }
+        }
+        return current;
     }
     
     /**
-     * Reload all role permissions from database.
-     * Call this after modifying roles or permissions via admin API.
+     * Load permissions for all roles from database into a new index.
      */
-    public void reloadCache() {
-        log.info("Reloading role permissions cache");
-        rolePermissionsCache.clear();
-        
-        // Pre-load all roles
-        List<Role> roles = roleRepository.findAll();
-        for (Role role : roles) {
-            loadPermissionsForRole(role.getName());
+    private PermissionIndex loadIndex() {
+        Map<String, List<Permission>> permissionsByRole = new HashMap<>();
+        for (Role role : roleRepository.findAll()) {
+            List<Permission> permissions = rolePermissionRepository.findPermissionsByRole(role);
+            permissionsByRole.put(role.getName(), permissions);
+            log.debug("Loaded {} permissions for role: {}", permissions.size(), role.getName());
         }
-        
-        log.info("Role permissions cache reloaded successfully");
+        return PermissionIndex.build(permissionsByRole, objectMapper);
     }
     
     /**
      * Check if a role has permission for a specific operation on a resource type.
+     * A permission with scope ALL satisfies every scope.
+     */
+    public boolean hasPermission(String roleName, String resourceType, String operation, PermissionScope scope) {
+        return currentIndex().hasPermission(roleName, resourceType, operation, scope);
+    }
+    
+    /**
+     * Get the scopes a role holds for an operation on a resource type.
+     * Empty if the role has no such permission.
+     */
+    public Set<PermissionScope> getGrantedScopes(String roleName, String resourceType, String operation) {
+        return currentIndex().grantedScopes(roleName, resourceType, operation);
+    }
+    
+    /**
+     * Check if a role has permission for a specific operation on a resource type.
+     * Unknown scope names are satisfied only by a permission with scope ALL.
      */
     public boolean hasPermission(String roleName, String resourceType, String operation, String scope) {
-        List<Permission> permissions = getPermissionsForRole(roleName);
-        
-        return permissions.stream()
-            .anyMatch(p -> 
-                p.getResourceType().equals(resourceType) &&
-                p.getOperation().equals(operation) &&
-                (p.getScope().equals("ALL") || p.getScope().equals(scope))
-            );
+        return hasPermission(roleName, resourceType, operation, PermissionScope.of(scope));
     }
     
     /**
@@ -97,23 +141,14 @@ public class RolePermissionService {
      * Returns a map of field names to permission levels (READ, WRITE, HIDDEN).
      */
     public Map<String, String> getFieldPermissions(String roleName, String resourceType, String operation) {
-        List<Permission> permissions = getPermissionsForRole(roleName);
-        
-        for (Permission permission : permissions) {
-            if (permission.getResourceType().equals(resourceType) &&
-                permission.getOperation().equals(operation)) {
-                
-                String fieldPermsJson = permission.getFieldPermissions();
-                if (fieldPermsJson != null && !fieldPermsJson.isEmpty()) {
-                    try {
-                        return objectMapper.readValue(fieldPermsJson, new TypeReference<Map<String, String>>() {});
-                    } catch (Exception e) {
-                        log.error("Error parsing field permissions JSON: {}", e.getMessage());
-                    }
-                }
-            }
-        }
-        
-        return Collections.emptyMap();
+        return getFieldMask(roleName, resourceType, operation).permissions();
+    }
+    
+    /**
+     * Get the pre-parsed field mask for a role, resource type, and operation.
+     * The fieldPermissions JSON is parsed when the cache loads, not per call.
+     */
+    public FieldMask getFieldMask(String roleName, String resourceType, String operation) {
+        return currentIndex().fieldMask(roleName, resourceType, operation);
     }
 }
@@ -1,7 +1,10 @@
 package com.demo.application.batch;
 
 import com.demo.shared.config.BatchProperties;
+import com.demo.domain.batch.BatchComputerSystemPatchRequest;
 import com.demo.domain.batch.BatchComputerSystemRequest;
+import com.demo.domain.batch.BatchImportChunkResult;
+import com.demo.domain.batch.BatchImportSummary;
 import com.demo.domain.computersystem.ComputerSystemDto;
 import com.demo.application.computersystem.ComputerSystemService;
 import com.demo.shared.service.EmailNotificationService;
@@ -23,6 +26,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -52,6 +56,12 @@ class BatchComputerSystemControllerTest {
     @MockitoBean
     private ComputerSystemService service;
 
+    @MockitoBean
+    private BatchComputerSystemService batchService;
+
+    @MockitoBean
+    private BatchImportService importService;
+
     @MockitoBean
     private EmailNotificationService emailNotificationService;
 
@@ -101,7 +111,7 @@ class BatchComputerSystemControllerTest {
     @Test
     void testBatchCreate_Success() throws Exception {
         // Arrange
-        when(service.createComputerSystem(any())).thenReturn(testDto1, testDto2);
+        when(batchService.createAll(any())).thenReturn(List.of(testDto1, testDto2));
 
         BatchComputerSystemRequest request = new BatchComputerSystemRequest(Arrays.asList(
                 testDto1, testDto2
@@ -120,7 +130,8 @@ class BatchComputerSystemControllerTest {
                 .andExpect(jsonPath("$.items[0].hostname").value("SERVER-001"))
                 .andExpect(jsonPath("$.items[1].hostname").value("SERVER-002"));
 
-        verify(service, times(2)).createComputerSystem(any());
+        verify(batchService, times(1)).createAll(any());
+        verify(service, never()).createComputerSystem(any());
     }
 
     /**
@@ -139,7 +150,7 @@ class BatchComputerSystemControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.title").value("Request Validation Failed"));
 
-        verify(service, never()).createComputerSystem(any());
+        verify(batchService, never()).createAll(any());
     }
 
     /**
@@ -162,7 +173,7 @@ class BatchComputerSystemControllerTest {
                 .andExpect(jsonPath("$.title").value("Batch Size Exceeds Maximum"))
                 .andExpect(jsonPath("$.detail", containsString("exceeds maximum (1)")));
 
-        verify(service, never()).createComputerSystem(any());
+        verify(batchService, never()).createAll(any());
     }
 
     /**
@@ -193,7 +204,7 @@ class BatchComputerSystemControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.detail", containsString("items[0].hostname")));
 
-        verify(service, never()).createComputerSystem(any());
+        verify(batchService, never()).createAll(any());
     }
 
     /**
@@ -203,8 +214,7 @@ class BatchComputerSystemControllerTest {
     @Test
     void testBatchUpdate_Success() throws Exception {
         // Arrange
-        when(service.updateComputerSystem(eq(1L), any())).thenReturn(testDto1);
-        when(service.updateComputerSystem(eq(2L), any())).thenReturn(testDto2);
+        when(batchService.updateAll(any())).thenReturn(List.of(testDto1, testDto2));
 
         BatchComputerSystemRequest request = new BatchComputerSystemRequest(Arrays.asList(
                 testDto1, testDto2
@@ -220,7 +230,8 @@ class BatchComputerSystemControllerTest {
                 .andExpect(jsonPath("$.status").value("SUCCESS"))
                 .andExpect(jsonPath("$.items[0].id").value(1))
                 .andExpect(jsonPath("$.items[1].id").value(2));
-        verify(service, times(2)).updateComputerSystem(any(Long.class), any());
+        verify(batchService, times(1)).updateAll(any());
+        verify(service, never()).updateComputerSystem(any(Long.class), any(), any());
     }
 
     /**
@@ -244,7 +255,114 @@ class BatchComputerSystemControllerTest {
                 .andExpect(jsonPath("$.title").value("Batch Size Exceeds Maximum"));
 
         // Verify no updates occurred (all-or-nothing: size exceeded = no updates)
-        verify(service, never()).updateComputerSystem(any(Long.class), any());
+        verify(batchService, never()).updateAll(any());
+    }
+
+    /**
+     * Test batch patch with a single field.
+     * Should patch all IDs in one call and return 200 OK with counts.
+     */
+    @Test
+    void testBatchPatch_Success() throws Exception {
+        // Arrange
+        when(batchProperties.getMaxPatchIds()).thenReturn(5000);
+        when(batchService.patchAll(any())).thenReturn(3);
+
+        BatchComputerSystemPatchRequest request = BatchComputerSystemPatchRequest.builder()
+                .ids(List.of(1L, 2L, 3L))
+                .department("DevOps")
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/v1/computer-systems/batch/patch")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(Objects.requireNonNull(objectMapper.writeValueAsString(request))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalItems").value(3))
+                .andExpect(jsonPath("$.successCount").value(3))
+                .andExpect(jsonPath("$.status").value("SUCCESS"));
+
+        verify(batchService, times(1)).patchAll(any());
+    }
+
+    /**
+     * Test batch patch without any field to set.
+     * Should return 400 Bad Request without patching.
+     */
+    @Test
+    void testBatchPatch_NoFields() throws Exception {
+        // Arrange
+        BatchComputerSystemPatchRequest request = BatchComputerSystemPatchRequest.builder()
+                .ids(List.of(1L, 2L))
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/v1/computer-systems/batch/patch")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(Objects.requireNonNull(objectMapper.writeValueAsString(request))))
+                .andExpect(status().isBadRequest());
+
+        verify(batchService, never()).patchAll(any());
+    }
+
+    /**
+     * Test batch patch exceeds the patch ID limit.
+     * Should return 400 Bad Request naming the patch limit.
+     */
+    @Test
+    void testBatchPatch_SizeExceeded() throws Exception {
+        // Arrange - Set max patch ids to 1
+        when(batchProperties.getMaxPatchIds()).thenReturn(1);
+
+        BatchComputerSystemPatchRequest request = BatchComputerSystemPatchRequest.builder()
+                .ids(List.of(1L, 2L))
+                .department("DevOps")
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/v1/computer-systems/batch/patch")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(Objects.requireNonNull(objectMapper.writeValueAsString(request))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Batch Size Exceeds Maximum"))
+                .andExpect(jsonPath("$.detail", containsString("app.batch.max-patch-ids")));
+
+        verify(batchService, never()).patchAll(any());
+    }
+
+    /**
+     * Test streaming import.
+     * Should stream one line per chunk followed by the summary line.
+     */
+    @Test
+    void testBatchImport_StreamsChunkResults() throws Exception {
+        // Arrange
+        when(importService.importNdjson(any(), any())).thenAnswer(invocation -> {
+            Consumer<BatchImportChunkResult> onChunk = invocation.getArgument(1);
+            onChunk.accept(BatchImportChunkResult.builder()
+                    .chunk(1).firstRecord(1).lastRecord(2).created(2).status("SUCCESS").errors(List.of())
+                    .build());
+            return BatchImportSummary.builder()
+                    .totalRecords(2).created(2).chunks(1).status("SUCCESS")
+                    .build();
+        });
+
+        String body = objectMapper.writeValueAsString(testDto1) + "\n"
+                + objectMapper.writeValueAsString(testDto2) + "\n";
+
+        // Act & Assert
+        String response = mockMvc.perform(post("/api/v1/computer-systems/batch/import")
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = response.split("\n");
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertTrue(lines[0].contains("\"chunk\":1"));
+        Assertions.assertTrue(lines[1].contains("\"summary\":true"));
+        verify(importService, times(1)).importNdjson(any(), any());
     }
 
     /**
@@ -254,9 +372,7 @@ class BatchComputerSystemControllerTest {
     @Test
     void testBatchDelete_Success() throws Exception {
         // Arrange
-        when(service.getComputerSystemById(1L)).thenReturn(testDto1);
-        when(service.getComputerSystemById(2L)).thenReturn(testDto2);
-        doNothing().when(service).deleteComputerSystem(any());
+        when(batchService.deleteAll(any())).thenReturn(2);
 
         BatchComputerSystemRequest request = new BatchComputerSystemRequest(Arrays.asList(
                 testDto1, testDto2
@@ -268,9 +384,9 @@ class BatchComputerSystemControllerTest {
                 .content(Objects.requireNonNull(objectMapper.writeValueAsString(request))))
                 .andExpect(status().isNoContent());
 
-        // Verify all items were verified and deleted (two-phase approach)
-        verify(service, times(2)).getComputerSystemById(any());
-        verify(service, times(2)).deleteComputerSystem(any());
+        // Verify all items were verified and deleted in one set-based call
+        verify(batchService, times(1)).deleteAll(List.of(1L, 2L));
+        verify(service, never()).deleteComputerSystem(any(), any());
     }
 
     /**
@@ -288,7 +404,7 @@ class BatchComputerSystemControllerTest {
                 .content(Objects.requireNonNull(objectMapper.writeValueAsString(request))))
                 .andExpect(status().isBadRequest());
 
-        verify(service, never()).deleteComputerSystem(any());
+        verify(batchService, never()).deleteAll(any());
     }
 
     /**
@@ -312,8 +428,7 @@ class BatchComputerSystemControllerTest {
                 .andExpect(jsonPath("$.title").value("Batch Size Exceeds Maximum"));
 
         // Verify no deletions occurred (size exceeded = no deletes)
-        verify(service, never()).getComputerSystemById(any());
-        verify(service, never()).deleteComputerSystem(any());
+        verify(batchService, never()).deleteAll(any());
     }
 
     /**
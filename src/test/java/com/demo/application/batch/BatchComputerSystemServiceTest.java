@@ -0,0 +1,268 @@
+package com.demo.application.batch;
+
+import com.demo.application.computersystem.ComputerSystemCache;
+import com.demo.application.computersystem.ComputerSystemRepository;
+import com.demo.application.user.UserRepository;
+import com.demo.domain.computersystem.ComputerSystem;
+import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.domain.computersystem.ComputerSystemKeys;
+import com.demo.domain.computersystem.ComputerSystemMapper;
+import com.demo.domain.user.User;
+import com.demo.shared.config.BatchProperties;
+import com.demo.shared.exception.DuplicateResourceException;
+import com.demo.shared.exception.ResourceNotFoundException;
+import com.demo.shared.security.CurrentUserService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchComputerSystemServiceTest {
+
+    @Mock
+    private ComputerSystemRepository repository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ComputerSystemCache computerSystemCache;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    private BatchComputerSystemService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Class<?> implClass = Class.forName(ComputerSystemMapper.class.getName() + "Impl");
+        ComputerSystemMapper mapper = (ComputerSystemMapper) implClass.getDeclaredConstructor().newInstance();
+
+        BatchProperties batchProperties = new BatchProperties();
+        batchProperties.setChunkSize(2);
+
+        service = new BatchComputerSystemService(repository, userRepository, mapper, batchProperties, entityManager,
+                computerSystemCache, currentUserService);
+    }
+
+    @Test
+    void testCreateAll_ChecksKeysAndUsersPerChunk() {
+        List<ComputerSystemDto> items = List.of(dto(1), dto(2), dto(3));
+        when(repository.findUniqueKeyConflictsIn(anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(Collections.emptyList());
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(Set.of(1L));
+        when(userRepository.getReferenceById(1L)).thenReturn(User.builder().id(1L).build());
+
+        List<ComputerSystemDto> result = service.createAll(items);
+
+        assertEquals(3, result.size());
+        assertEquals("SERVER-003", result.get(2).getHostname());
+        // Three items at chunk size 2: two key lookups, one user lookup, two flushes
+        verify(repository, times(2)).findUniqueKeyConflictsIn(anyCollection(), anyCollection(), anyCollection());
+        verify(userRepository, times(1)).findExistingIds(anyCollection());
+        verify(repository, times(2)).saveAll(any());
+        verify(repository, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void testCreateAll_DuplicateWithinBatch() {
+        ComputerSystemDto first = dto(1);
+        ComputerSystemDto second = dto(2);
+        second.setHostname(first.getHostname());
+
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> service.createAll(List.of(first, second)));
+
+        assertTrue(ex.getMessage().contains("appears more than once in the batch"));
+        verifyNoInteractions(repository, userRepository);
+    }
+
+    @Test
+    void testCreateAll_ExistingIpAddress() {
+        ComputerSystemDto item = dto(1);
+        when(repository.findUniqueKeyConflictsIn(anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(List.of(keys(9L, "OTHER", "00:00:00:00:00:09", item.getIpAddress())));
+
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> service.createAll(List.of(item)));
+
+        assertEquals("Computer system with IP address " + item.getIpAddress() + " already exists", ex.getMessage());
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    void testCreateAll_UnknownUser() {
+        when(repository.findUniqueKeyConflictsIn(anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(Collections.emptyList());
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(Collections.emptySet());
+
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                () -> service.createAll(List.of(dto(1))));
+
+        assertEquals("User with id 1 not found", ex.getMessage());
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    void testUpdateAll_UnchangedKeysSkipLookups() {
+        ComputerSystemDto item = dto(1);
+        item.setId(1L);
+        item.setDepartment("DevOps");
+        when(repository.findAllById(anyIterable())).thenReturn(List.of(entity(1L, dto(1))));
+
+        List<ComputerSystemDto> result = service.updateAll(List.of(item));
+
+        assertEquals("DevOps", result.get(0).getDepartment());
+        verify(repository, never()).findUniqueKeyConflictsIn(anyCollection(), anyCollection(), anyCollection());
+        verify(userRepository, never()).findExistingIds(anyCollection());
+        verify(repository, times(1)).flush();
+    }
+
+    @Test
+    void testUpdateAll_ChangedHostnameHeldByOtherSystem() {
+        ComputerSystemDto item = dto(1);
+        item.setId(1L);
+        item.setHostname("SERVER-009");
+        when(repository.findAllById(anyIterable())).thenReturn(List.of(entity(1L, dto(1))));
+        when(repository.findUniqueKeyConflictsIn(anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(List.of(
+                        keys(1L, "SERVER-001", item.getMacAddress(), item.getIpAddress()),
+                        keys(9L, "SERVER-009", "00:00:00:00:00:09", "10.0.0.9")));
+
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> service.updateAll(List.of(item)));
+
+        assertEquals("Computer system with hostname SERVER-009 already exists", ex.getMessage());
+        verify(repository, never()).flush();
+    }
+
+    @Test
+    void testUpdateAll_SwappedHostnamesParkedFirst() {
+        ComputerSystemDto first = dto(1);
+        first.setId(1L);
+        first.setHostname("SERVER-002");
+        ComputerSystemDto second = dto(2);
+        second.setId(2L);
+        second.setHostname("SERVER-001");
+        ComputerSystem firstTarget = entity(1L, dto(1));
+        ComputerSystem secondTarget = entity(2L, dto(2));
+        when(repository.findAllById(anyIterable())).thenReturn(List.of(firstTarget, secondTarget));
+        when(repository.findUniqueKeyConflictsIn(anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(List.of(
+                        keys(1L, "SERVER-001", first.getMacAddress(), first.getIpAddress()),
+                        keys(2L, "SERVER-002", second.getMacAddress(), second.getIpAddress())));
+
+        List<ComputerSystemDto> result = service.updateAll(List.of(first, second));
+
+        assertEquals("SERVER-002", result.get(0).getHostname());
+        assertEquals("SERVER-001", result.get(1).getHostname());
+        assertEquals(first.getMacAddress(), firstTarget.getMacAddress());
+        // One flush to park the hostnames, one to apply the batch
+        verify(repository, times(2)).flush();
+    }
+
+    @Test
+    void testUpdateAll_StaleVersionFailsBatch() {
+        ComputerSystemDto item = dto(1);
+        item.setId(1L);
+        item.setVersion(1L);
+        ComputerSystem target = entity(1L, dto(1));
+        target.setVersion(2L);
+        when(repository.findAllById(anyIterable())).thenReturn(List.of(target));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> service.updateAll(List.of(item)));
+
+        verify(repository, never()).flush();
+        verifyNoInteractions(computerSystemCache);
+    }
+
+    @Test
+    void testUpdateAll_MissingTarget() {
+        ComputerSystemDto item = dto(1);
+        item.setId(42L);
+        when(repository.findAllById(anyIterable())).thenReturn(Collections.emptyList());
+
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                () -> service.updateAll(List.of(item)));
+
+        assertEquals("Computer system with id 42 not found", ex.getMessage());
+    }
+
+    @Test
+    void testDeleteAll_ChecksExistenceBeforeDeleting() {
+        when(repository.findExistingIds(anyCollection())).thenReturn(Set.of(1L, 2L), Set.of(3L));
+        when(repository.deleteAllByIdIn(anyCollection())).thenReturn(2, 1);
+
+        int deleted = service.deleteAll(List.of(1L, 2L, 3L, 3L));
+
+        assertEquals(3, deleted);
+        verify(repository).deleteAllByIdIn(List.of(1L, 2L));
+        verify(repository).deleteAllByIdIn(List.of(3L));
+        verify(computerSystemCache).evict(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void testDeleteAll_MissingIdDeletesNothing() {
+        when(repository.findExistingIds(anyCollection())).thenReturn(Set.of(1L));
+
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                () -> service.deleteAll(List.of(1L, 99L)));
+
+        assertEquals("Computer system with id 99 not found", ex.getMessage());
+        verify(repository, never()).deleteAllByIdIn(anyCollection());
+        verifyNoInteractions(computerSystemCache);
+    }
+
+    private static ComputerSystemDto dto(int n) {
+        return ComputerSystemDto.builder()
+                .hostname(String.format("SERVER-%03d", n))
+                .manufacturer("Dell")
+                .model("PowerEdge R750")
+                .userId(1L)
+                .department("IT")
+                .macAddress(String.format("00:1A:2B:3C:4D:%02X", n))
+                .ipAddress("192.168.1." + n)
+                .networkName("PROD-NETWORK")
+                .build();
+    }
+
+    private static ComputerSystem entity(Long id, ComputerSystemDto dto) {
+        return ComputerSystem.builder()
+                .id(id)
+                .hostname(dto.getHostname())
+                .manufacturer(dto.getManufacturer())
+                .model(dto.getModel())
+                .systemUser(User.builder().id(dto.getUserId()).build())
+                .department(dto.getDepartment())
+                .macAddress(dto.getMacAddress())
+                .ipAddress(dto.getIpAddress())
+                .networkName(dto.getNetworkName())
+                .build();
+    }
+
+    private static ComputerSystemKeys keys(Long id, String hostname, String macAddress, String ipAddress) {
+        return new ComputerSystemKeys() {
+            @Override public Long getId() { return id; }
+            @Override public String getHostname() { return hostname; }
+            @Override public String getMacAddress() { return macAddress; }
+            @Override public String getIpAddress() { return ipAddress; }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package com.demo.application.batch;
+
+import com.demo.domain.batch.BatchImportChunkResult;
+import com.demo.domain.batch.BatchImportSummary;
+import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.shared.config.BatchProperties;
+import com.demo.shared.exception.DuplicateResourceException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchImportServiceTest {
+
+    @Mock
+    private BatchComputerSystemService batchComputerSystemService;
+
+    private BatchImportService service;
+
+    private final List<BatchImportChunkResult> chunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        BatchProperties batchProperties = new BatchProperties();
+        batchProperties.setImportChunkSize(2);
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        service = new BatchImportService(batchComputerSystemService, batchProperties, new ObjectMapper(), validator);
+    }
+
+    @Test
+    void testImport_CommitsInChunks() throws Exception {
+        when(batchComputerSystemService.createAll(anyList()))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<List<ComputerSystemDto>>getArgument(0)));
+
+        BatchImportSummary summary = service.importNdjson(ndjson(line(1), line(2), line(3)), chunks::add);
+
+        assertEquals("SUCCESS", summary.getStatus());
+        assertEquals(3, summary.getTotalRecords());
+        assertEquals(3, summary.getCreated());
+        assertEquals(2, summary.getChunks());
+        assertEquals(2, chunks.size());
+        assertEquals(3, chunks.get(1).getFirstRecord());
+        verify(batchComputerSystemService, times(2)).createAll(anyList());
+    }
+
+    @Test
+    void testImport_InvalidRecordSkipped() throws Exception {
+        when(batchComputerSystemService.createAll(anyList()))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<List<ComputerSystemDto>>getArgument(0)));
+        String invalid = line(2).replace("192.168.1.2", "not-an-ip");
+
+        BatchImportSummary summary = service.importNdjson(ndjson(line(1), invalid), chunks::add);
+
+        assertEquals("PARTIAL", summary.getStatus());
+        assertEquals(1, summary.getCreated());
+        assertEquals(1, summary.getFailed());
+        assertEquals(List.of("record 2: ipAddress: Invalid IP address format"), chunks.get(0).getErrors());
+    }
+
+    @Test
+    void testImport_FailedChunkDoesNotStopImport() throws Exception {
+        when(batchComputerSystemService.createAll(anyList()))
+                .thenThrow(new DuplicateResourceException("Computer system with hostname SERVER-001 already exists"))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<List<ComputerSystemDto>>getArgument(0)));
+
+        BatchImportSummary summary = service.importNdjson(ndjson(line(1), line(2), line(3)), chunks::add);
+
+        assertEquals("PARTIAL", summary.getStatus());
+        assertEquals(1, summary.getCreated());
+        assertEquals(2, summary.getFailed());
+        assertEquals("FAILED", chunks.get(0).getStatus());
+        assertEquals("SUCCESS", chunks.get(1).getStatus());
+    }
+
+    @Test
+    void testImport_MalformedLineAborts() throws Exception {
+        when(batchComputerSystemService.createAll(anyList()))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<List<ComputerSystemDto>>getArgument(0)));
+
+        BatchImportSummary summary = service.importNdjson(ndjson(line(1), line(2), "{not json"), chunks::add);
+
+        assertEquals("ABORTED", summary.getStatus());
+        assertEquals(2, summary.getCreated());
+        assertNotNull(summary.getError());
+    }
+
+    @Test
+    void testImport_WriteFailurePropagates() {
+        when(batchComputerSystemService.createAll(anyList()))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<List<ComputerSystemDto>>getArgument(0)));
+
+        // Client disconnected while the first chunk result was written
+        assertThrows(UncheckedIOException.class, () -> service.importNdjson(ndjson(line(1), line(2), line(3)),
+                chunk -> { throw new UncheckedIOException(new IOException("Broken pipe")); }));
+
+        verify(batchComputerSystemService, times(1)).createAll(anyList());
+    }
+
+    private static String line(int n) {
+        return String.format("{\"hostname\":\"SERVER-%03d\",\"manufacturer\":\"Dell\",\"model\":\"R750\","
+                + "\"userId\":1,\"department\":\"IT\",\"macAddress\":\"00:1A:2B:3C:4D:%02X\","
+                + "\"ipAddress\":\"192.168.1.%d\",\"networkName\":\"PROD\"}", n, n, n);
+    }
+
+    private static ByteArrayInputStream ndjson(String... lines) {
+        return new ByteArrayInputStream((String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,126 @@
+package com.demo.application.batch;
+
+import com.demo.domain.computersystem.ComputerSystem;
+import com.demo.domain.security.role.Role;
+import com.demo.domain.user.User;
+import com.demo.shared.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput benchmark for bulk computer system inserts.
+ *
+ * Runs the same chunked insert loop used by BatchComputerSystemService twice:
+ * once with JDBC batching disabled for the session (one statement per row,
+ * equivalent to the old IDENTITY behaviour) and once with the configured
+ * hibernate.jdbc.batch_size. Rows per second for both runs are logged;
+ * assertions only cover prepared statement counts, which are deterministic.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(JpaConfig.class)
+class BulkInsertThroughputIT {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkInsertThroughputIT.class);
+
+    private static final int ROWS = 2000;
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Session session;
+    private Statistics statistics;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        session = entityManager.unwrap(Session.class);
+        statistics = session.getSessionFactory().getStatistics();
+
+        Role role = Role.builder().name("MY_APP_USER").description("Benchmark role").build();
+        entityManager.persist(role);
+        owner = User.builder()
+                .username("bench")
+                .email("bench@example.com")
+                .department("IT")
+                .role(role)
+                .build();
+        entityManager.persist(owner);
+        entityManager.flush();
+    }
+
+    @Test
+    void testBatchedInsertsUseFewerStatements() {
+        // Warm up so class loading and JIT do not skew the first measurement
+        insert("WARMUP", 200, null);
+
+        long unbatchedStatements = insert("ROW", ROWS, 1);
+        long batchedStatements = insert("BATCH", ROWS, null);
+
+        // Batched: roughly one statement per batch_size rows plus sequence calls
+        assertTrue(batchedStatements * 10 < unbatchedStatements,
+                "Expected batching to cut statements by at least 10x: batched=" + batchedStatements
+                        + ", unbatched=" + unbatchedStatements);
+
+        Long count = entityManager.createQuery("SELECT COUNT(c) FROM ComputerSystem c", Long.class)
+                .getSingleResult();
+        assertEquals(200L + 2 * ROWS, count);
+    }
+
+    /**
+     * Inserts rows in chunks and returns the number of JDBC statements prepared.
+     *
+     * @param prefix Hostname prefix keeping runs unique
+     * @param rows Number of rows to insert
+     * @param jdbcBatchSize Session batch size override, or null for the configured value
+     */
+    private long insert(String prefix, int rows, Integer jdbcBatchSize) {
+        session.setJdbcBatchSize(jdbcBatchSize);
+        statistics.clear();
+        User ownerRef = entityManager.getReference(User.class, owner.getId());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            entityManager.persist(system(prefix, i, ownerRef));
+            if ((i + 1) % CHUNK_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                ownerRef = entityManager.getReference(User.class, owner.getId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long elapsedNanos = System.nanoTime() - start;
+
+        long statements = statistics.getPrepareStatementCount();
+        log.info("Bulk insert [{}] batch size {}: {} rows in {} ms ({} rows/sec, {} statements)",
+                prefix, jdbcBatchSize == null ? "default" : jdbcBatchSize, rows,
+                elapsedNanos / 1_000_000, rows * 1_000_000_000L / Math.max(elapsedNanos, 1), statements);
+        session.setJdbcBatchSize(null);
+        return statements;
+    }
+
+    private static ComputerSystem system(String prefix, int i, User user) {
+        String suffix = prefix + "-" + i;
+        return ComputerSystem.builder()
+                .hostname("HOST-" + suffix)
+                .manufacturer("Dell")
+                .model("PowerEdge R750")
+                .systemUser(user)
+                .department("IT")
+                .macAddress("MAC-" + suffix)
+                .ipAddress("IP-" + suffix)
+                .networkName("BENCH")
+                .build();
+    }
+}
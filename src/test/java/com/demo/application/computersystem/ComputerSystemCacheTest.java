@@ -0,0 +1,129 @@
+package com.demo.application.computersystem;
+
+import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.shared.config.ComputerSystemCacheProperties;
+import com.demo.shared.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComputerSystemCacheTest {
+
+    private ComputerSystemCache cache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new ComputerSystemCache(new ComputerSystemCacheProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testGetById_LoadsOnce() {
+        Function<Long, ComputerSystemDto> loader = countingLoader("SERVER-001");
+
+        assertEquals("SERVER-001", cache.getById(1L, loader).getHostname());
+        assertEquals("SERVER-001", cache.getById(1L, loader).getHostname());
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testGetByHostname_SharesEntryWithId() {
+        cache.getById(1L, countingLoader("SERVER-001"));
+
+        ComputerSystemDto dto = cache.getByHostname("SERVER-001", countingLoader("SERVER-001"), this::failingLoad);
+
+        assertEquals(1L, dto.getId());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testGetByHostname_MissIsNotCached() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> cache.getByHostname("SERVER-404", countingLoader("SERVER-404"), this::failingLoad));
+
+        ComputerSystemDto dto = cache.getByHostname("SERVER-404", countingLoader("SERVER-404"),
+                hostname -> dto(7L, hostname));
+
+        assertEquals(7L, dto.getId());
+    }
+
+    @Test
+    void testEvict_RenamedSystemNotServedUnderOldHostname() {
+        cache.getByHostname("SERVER-001", countingLoader("SERVER-001"), hostname -> dto(1L, hostname));
+
+        cache.evict(1L);
+        // Reload by ID sees the rename; the old hostname mapping must not resolve to it
+        cache.getById(1L, countingLoader("SERVER-RENAMED"));
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> cache.getByHostname("SERVER-001", countingLoader("SERVER-RENAMED"), this::failingLoad));
+    }
+
+    @Test
+    void testEvict_HostnameReassignedToAnotherSystem() {
+        cache.getById(1L, countingLoader("SERVER-001"));
+        cache.evict(1L);
+
+        // System 1 was deleted and SERVER-001 now belongs to system 2
+        ComputerSystemDto dto = cache.getByHostname("SERVER-001", this::failingLoad, hostname -> dto(2L, hostname));
+
+        assertEquals(2L, dto.getId());
+    }
+
+    @Test
+    void testEvict_RepeatedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evict(List.of(1L));
+
+        // A reader inside the still-open transaction window reloads the old row
+        cache.getById(1L, countingLoader("SERVER-OLD"));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals("SERVER-NEW", cache.getById(1L, countingLoader("SERVER-NEW")).getHostname());
+    }
+
+    @Test
+    void testGetById_NotCachedInsideTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            cache.getById(1L, countingLoader("SERVER-UNCOMMITTED"));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        assertTrue(cache.getIfPresent(1L).isEmpty());
+    }
+
+    private Function<Long, ComputerSystemDto> countingLoader(String hostname) {
+        return id -> {
+            loads.incrementAndGet();
+            return dto(id, hostname);
+        };
+    }
+
+    private ComputerSystemDto failingLoad(Object key) {
+        throw new ResourceNotFoundException("Computer system " + key + " not found");
+    }
+
+    private static ComputerSystemDto dto(Long id, String hostname) {
+        return ComputerSystemDto.builder().id(id).hostname(hostname).build();
+    }
+}
@@ -1,6 +1,14 @@
 package com.demo.application.computersystem;
 
 import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.domain.computersystem.ComputerSystemVersion;
+import com.demo.domain.computersystem.HostnameGrams;
+import com.demo.shared.exception.PreconditionFailedException;
+import com.demo.shared.exception.ResourceNotFoundException;
+import com.demo.shared.pagination.CursorPage;
+import com.demo.shared.security.AccessScope;
+import com.demo.shared.security.AuthorizationService;
+import com.demo.shared.security.PermissionScope;
 import com.demo.shared.service.EmailNotificationService;
 import tools.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,16 +20,26 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -37,9 +55,18 @@ class ComputerSystemControllerTest {
     @MockitoBean
     private ComputerSystemService service;
 
+    @MockitoBean
+    private ComputerSystemExportService exportService;
+
     @MockitoBean
     private EmailNotificationService emailNotificationService;
 
+    @MockitoBean
+    private ComputerSystemCache computerSystemCache;
+
+    @MockitoBean
+    private AuthorizationService authorizationService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -57,7 +84,27 @@ class ComputerSystemControllerTest {
                 .macAddress("00:1A:2B:3C:4D:5E")
                 .ipAddress("192.168.1.100")
                 .networkName("PROD-NETWORK")
+                .updatedAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .version(3L)
                 .build();
+
+        // Always miss, so lookups reach the service
+        when(computerSystemCache.getById(any(), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, ComputerSystemDto>>getArgument(1).apply(invocation.getArgument(0)));
+        when(computerSystemCache.getByHostname(any(), any(), any())).thenAnswer(invocation ->
+                invocation.<Function<String, ComputerSystemDto>>getArgument(2).apply(invocation.getArgument(0)));
+        when(service.getComputerSystemVersionById(any())).thenAnswer(invocation -> version(testDto));
+        when(service.getComputerSystemVersionByHostname(any())).thenAnswer(invocation -> version(testDto));
+        when(authorizationService.getCurrentAccessScope("ComputerSystem", "READ"))
+                .thenReturn(AccessScope.UNRESTRICTED);
+    }
+
+    private static ComputerSystemVersion version(ComputerSystemDto dto) {
+        return new ComputerSystemVersion() {
+            public Long getId() { return dto.getId(); }
+            public LocalDateTime getUpdatedAt() { return dto.getUpdatedAt(); }
+            public Long getVersion() { return dto.getVersion(); }
+        };
     }
 
     @Test
@@ -86,6 +133,63 @@ class ComputerSystemControllerTest {
         verify(service, times(1)).getComputerSystemById(1L);
     }
 
+    @Test
+    void testGetComputerSystemById_ReturnsETag() throws Exception {
+        when(service.getComputerSystemById(1L)).thenReturn(testDto);
+
+        String etag = mockMvc.perform(get("/api/v1/computer-systems/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-v3\""))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/computer-systems/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        testDto.setVersion(4L);
+        mockMvc.perform(get("/api/v1/computer-systems/1").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    void testGetComputerSystemById_NotModifiedFromVersionOnly() throws Exception {
+        mockMvc.perform(get("/api/v1/computer-systems/1").header("If-None-Match", ComputerSystemETags.of(testDto)))
+                .andExpect(status().isNotModified());
+
+        verify(service, never()).getComputerSystemById(any());
+    }
+
+    @Test
+    void testGetAllComputerSystems_NotModified() throws Exception {
+        Page<ComputerSystemDto> page = new PageImpl<>(List.of(testDto), PageRequest.of(0, 20), 1);
+        when(service.getAllComputerSystems(any(), any())).thenReturn(page);
+
+        String etag = mockMvc.perform(get("/api/v1/computer-systems"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/computer-systems").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        testDto.setVersion(4L);
+        mockMvc.perform(get("/api/v1/computer-systems").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testGetComputerSystemByHostname_NotModified() throws Exception {
+        when(service.getComputerSystemByHostname("SERVER-001")).thenReturn(testDto);
+
+        String etag = mockMvc.perform(get("/api/v1/computer-systems/hostname/SERVER-001"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/computer-systems/hostname/SERVER-001").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void testGetComputerSystemByHostname() throws Exception {
         when(service.getComputerSystemByHostname("SERVER-001")).thenReturn(testDto);
@@ -100,32 +204,58 @@ class ComputerSystemControllerTest {
     @Test
     void testGetAllComputerSystems() throws Exception {
         Page<ComputerSystemDto> page = new PageImpl<>(Arrays.asList(testDto), PageRequest.of(0, 20), 1);
-        when(service.getAllComputerSystems(any())).thenReturn(page);
+        when(service.getAllComputerSystems(any(), any())).thenReturn(page);
 
         mockMvc.perform(get("/api/v1/computer-systems"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", hasSize(1)))
                 .andExpect(jsonPath("$.totalElements", is(1)));
 
-        verify(service, times(1)).getAllComputerSystems(any());
+        verify(service, times(1)).getAllComputerSystems(any(), any());
     }
 
     @Test
     void testFilterComputerSystems() throws Exception {
         Page<ComputerSystemDto> page = new PageImpl<>(Arrays.asList(testDto), PageRequest.of(0, 20), 1);
-        when(service.filterComputerSystems(any(), any(), any(), any())).thenReturn(page);
+        when(service.filterComputerSystems(any(), any(), any(), any(), any(), any())).thenReturn(page);
 
         mockMvc.perform(get("/api/v1/computer-systems/filter")
                 .param("department", "IT"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", hasSize(1)));
 
-        verify(service, times(1)).filterComputerSystems(any(), any(), any(), any());
+        verify(service, times(1)).filterComputerSystems(
+                eq(AccessScope.UNRESTRICTED), isNull(), eq(HostnameGrams.Match.CONTAINS), eq("IT"), isNull(), any());
+    }
+
+    @Test
+    void testFilterComputerSystemsByHostnamePrefix() throws Exception {
+        Page<ComputerSystemDto> page = new PageImpl<>(Arrays.asList(testDto), PageRequest.of(0, 20), 1);
+        when(service.filterComputerSystems(any(), any(), any(), any(), any(), any())).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/computer-systems/filter")
+                .param("hostname", "serv")
+                .param("hostnameMatch", "PREFIX"))
+                .andExpect(status().isOk());
+
+        verify(service, times(1)).filterComputerSystems(
+                eq(AccessScope.UNRESTRICTED), eq("serv"), eq(HostnameGrams.Match.PREFIX), isNull(), isNull(), any());
+    }
+
+    @Test
+    void testFilterComputerSystemsInvalidHostnameMatch() throws Exception {
+        mockMvc.perform(get("/api/v1/computer-systems/filter")
+                .param("hostname", "serv")
+                .param("hostnameMatch", "fuzzy"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title", is("Invalid Request")));
+
+        verify(service, never()).filterComputerSystems(any(), any(), any(), any(), any(), any());
     }
 
     @Test
     void testUpdateComputerSystem() throws Exception {
-        when(service.updateComputerSystem(eq(1L), any(ComputerSystemDto.class))).thenReturn(testDto);
+        when(service.updateComputerSystem(eq(1L), any(ComputerSystemDto.class), isNull())).thenReturn(testDto);
 
         mockMvc.perform(put("/api/v1/computer-systems/1")
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -133,16 +263,137 @@ class ComputerSystemControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.hostname", is("SERVER-001")));
 
-        verify(service, times(1)).updateComputerSystem(eq(1L), any(ComputerSystemDto.class));
+        verify(service, times(1)).updateComputerSystem(eq(1L), any(ComputerSystemDto.class), isNull());
+    }
+
+    @Test
+    void testUpdateComputerSystem_IfMatchMismatch() throws Exception {
+        when(service.updateComputerSystem(eq(1L), any(ComputerSystemDto.class), eq("\"1-0\"")))
+                .thenThrow(new PreconditionFailedException("Computer system with id 1 was modified"));
+
+        mockMvc.perform(put("/api/v1/computer-systems/1")
+                .header("If-Match", "\"1-0\"")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(Objects.requireNonNull(objectMapper.writeValueAsString(testDto))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.title", is("Precondition Failed")));
     }
 
     @Test
     void testDeleteComputerSystem() throws Exception {
-        doNothing().when(service).deleteComputerSystem(1L);
+        doNothing().when(service).deleteComputerSystem(1L, "\"1-abc\"");
 
-        mockMvc.perform(delete("/api/v1/computer-systems/1"))
+        mockMvc.perform(delete("/api/v1/computer-systems/1").header("If-Match", "\"1-abc\""))
                 .andExpect(status().isNoContent());
 
-        verify(service, times(1)).deleteComputerSystem(1L);
+        verify(service, times(1)).deleteComputerSystem(1L, "\"1-abc\"");
+    }
+
+    @Test
+    void testExportComputerSystemsAsCsv() throws Exception {
+        when(exportService.export(any(), eq(ComputerSystemExportService.ExportFormat.CSV), eq(AccessScope.UNRESTRICTED)))
+                .thenAnswer(invocation -> {
+                    OutputStream out = invocation.getArgument(0);
+                    out.write("id,hostname\n1,SERVER-001\n".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        MvcResult result = mockMvc.perform(get("/api/v1/computer-systems/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString("computer-systems.csv")))
+                .andExpect(content().string(containsString("1,SERVER-001")));
+
+        verify(exportService, times(1)).export(any(), eq(ComputerSystemExportService.ExportFormat.CSV),
+                eq(AccessScope.UNRESTRICTED));
+        verify(service, never()).getAllComputerSystems(any(), any());
+    }
+
+    @Test
+    void testExportComputerSystemsWithinCallerScope() throws Exception {
+        AccessScope department = new AccessScope(Set.of(PermissionScope.DEPARTMENT), 7L, "IT");
+        when(authorizationService.getCurrentAccessScope("ComputerSystem", "READ")).thenReturn(department);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/computer-systems/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        // Resolved on the request thread and handed to the async export
+        verify(exportService, times(1)).export(any(), eq(ComputerSystemExportService.ExportFormat.NDJSON),
+                eq(department));
+    }
+
+    @Test
+    void testGetComputerSystemById_OutsideScope() throws Exception {
+        AccessScope own = new AccessScope(Set.of(PermissionScope.OWN), 7L, "IT");
+        when(authorizationService.getCurrentAccessScope("ComputerSystem", "READ")).thenReturn(own);
+        doThrow(new ResourceNotFoundException("Computer system with id 1 not found"))
+                .when(service).requireWithinScope(1L, own);
+
+        mockMvc.perform(get("/api/v1/computer-systems/1"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/computer-systems/1").header("If-None-Match", ComputerSystemETags.of(testDto)))
+                .andExpect(status().isNotFound());
+
+        verify(computerSystemCache, never()).getById(any(), any());
+    }
+
+    @Test
+    void testGetComputerSystemByHostname_OutsideScope() throws Exception {
+        AccessScope own = new AccessScope(Set.of(PermissionScope.OWN), 7L, "IT");
+        when(authorizationService.getCurrentAccessScope("ComputerSystem", "READ")).thenReturn(own);
+        when(service.getComputerSystemByHostname("SERVER-001")).thenReturn(testDto);
+        doThrow(new ResourceNotFoundException("Computer system with id 1 not found"))
+                .when(service).requireWithinScope(1L, own);
+
+        mockMvc.perform(get("/api/v1/computer-systems/hostname/SERVER-001"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().string(not(containsString("SERVER-001"))));
+    }
+
+    @Test
+    void testExportComputerSystemsUnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/computer-systems/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title", is("Unsupported Export Format")));
+
+        verifyNoInteractions(exportService);
+    }
+
+    @Test
+    void testScrollComputerSystems() throws Exception {
+        CursorPage<ComputerSystemDto> page = CursorPage.<ComputerSystemDto>builder()
+                .items(List.of(testDto))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("next")
+                .build();
+        when(service.scrollComputerSystems(eq(AccessScope.UNRESTRICTED), eq(null), eq("IT"), eq(null), any(Sort.Order.class), eq(1), eq(null)))
+                .thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/computer-systems/cursor")
+                .param("department", "IT")
+                .param("size", "1")
+                .param("sort", "hostname,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.nextCursor", is("next")));
+
+        verify(service).scrollComputerSystems(AccessScope.UNRESTRICTED, null, "IT", null, Sort.Order.desc("hostname"), 1, null);
+    }
+
+    @Test
+    void testScrollComputerSystemsInvalidSize() throws Exception {
+        mockMvc.perform(get("/api/v1/computer-systems/cursor").param("size", "1000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title", is("Invalid Request")));
+
+        verify(service, never()).scrollComputerSystems(any(), any(), any(), any(), any(), anyInt(), any());
     }
 }
@@ -0,0 +1,41 @@
+package com.demo.application.computersystem;
+
+import com.demo.domain.computersystem.ComputerSystemDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComputerSystemETagsTest {
+
+    @Test
+    void testOf_DerivedFromVersion() {
+        assertEquals("\"1-v3\"", ComputerSystemETags.of(1L, 3L));
+        assertNotEquals(ComputerSystemETags.of(1L, 3L), ComputerSystemETags.of(1L, 4L));
+        assertNull(ComputerSystemETags.of(1L, null));
+    }
+
+    @Test
+    void testMatches_StrongComparison() {
+        String current = ComputerSystemETags.of(1L, 3L);
+
+        assertTrue(ComputerSystemETags.matches(current, current));
+        assertTrue(ComputerSystemETags.matches("\"other\", " + current, current));
+        assertTrue(ComputerSystemETags.matches("*", current));
+        assertFalse(ComputerSystemETags.matches("W/" + current, current));
+        assertFalse(ComputerSystemETags.matches("\"1-v2\"", current));
+    }
+
+    @Test
+    void testOfList_ChangesWithItemsAndPaging() {
+        ComputerSystemDto dto = ComputerSystemDto.builder().id(1L).version(3L).build();
+        String etag = ComputerSystemETags.ofList(List.of(dto), 1L, 0, 20);
+
+        assertEquals(etag, ComputerSystemETags.ofList(List.of(dto), 1L, 0, 20));
+        assertNotEquals(etag, ComputerSystemETags.ofList(List.of(dto), 2L, 0, 20));
+
+        dto.setVersion(4L);
+        assertNotEquals(etag, ComputerSystemETags.ofList(List.of(dto), 1L, 0, 20));
+    }
+}
@@ -14,18 +14,23 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import static org.hamcrest.Matchers.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 @Transactional
-@WithMockUser(roles = "MY_APP_USER")
+@WithMockUser(username = "john.doe", roles = "MY_APP_USER")
 class ComputerSystemIntegrationIT {
 
     @Autowired
@@ -40,6 +45,9 @@ class ComputerSystemIntegrationIT {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private ComputerSystemRepository computerSystemRepository;
+
     private ComputerSystemDto testDto;
     private User johnDoe;
     private User janeDoe;
@@ -132,6 +140,59 @@ class ComputerSystemIntegrationIT {
                 .andExpect(jsonPath("$.content", hasSize(greaterThanOrEqualTo(1))));
     }
 
+    @Test
+    void testListingsOnlyShowOwnSystems() throws Exception {
+        mockMvc.perform(post("/api/v1/computer-systems")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(Objects.requireNonNull(objectMapper.writeValueAsString(testDto))))
+                .andExpect(status().isCreated());
+
+        // MY_APP_USER reads with OWN scope: john.doe created it, jane.doe did not
+        mockMvc.perform(get("/api/v1/computer-systems/filter")
+                .param("hostname", "SERVER-001"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(1)));
+
+        mockMvc.perform(get("/api/v1/computer-systems/filter")
+                .param("hostname", "SERVER-001")
+                .with(user("jane.doe").roles("MY_APP_USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(0)));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testExportOnlyStreamsCallersDepartment() throws Exception {
+        // The export runs on an async thread in its own transaction, so this
+        // test commits its rows and removes them again
+        User itAdmin = userRepository.save(User.builder()
+                .username("it.admin")
+                .email("it.admin@example.com")
+                .department("IT")
+                .role(roleRepository.findByName("MY_APP_ADMIN").orElseThrow())
+                .build());
+        List<Long> created = new ArrayList<>();
+        try {
+            created.add(createSystem(exportSystem("EXPORT-IT-001", "IT", 0x61)));
+            created.add(createSystem(exportSystem("EXPORT-HR-001", "HR", 0x62)));
+
+            // MY_APP_ADMIN reads with DEPARTMENT scope
+            MvcResult result = mockMvc.perform(get("/api/v1/computer-systems/export")
+                    .with(user("it.admin").roles("MY_APP_ADMIN")))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString("EXPORT-IT-001")))
+                    .andExpect(content().string(not(containsString("EXPORT-HR-001"))))
+                    .andExpect(content().string(not(containsString("\"department\":\"HR\""))));
+        } finally {
+            computerSystemRepository.deleteAllById(created);
+            userRepository.delete(itAdmin);
+        }
+    }
+
     @Test
     void testValidationError() throws Exception {
         ComputerSystemDto invalidDto = ComputerSystemDto.builder()
@@ -195,6 +256,40 @@ class ComputerSystemIntegrationIT {
                 .andExpect(jsonPath("$.userId", is(janeDoe.getId().intValue())));
     }
 
+    @Test
+    void testUpdateWithStaleVersionConflicts() throws Exception {
+        String responseBody = mockMvc.perform(post("/api/v1/computer-systems")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(Objects.requireNonNull(objectMapper.writeValueAsString(testDto))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.version", is(0)))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        ComputerSystemDto stale = objectMapper.readValue(responseBody, ComputerSystemDto.class);
+        stale.setDepartment("DevOps");
+
+        mockMvc.perform(put("/api/v1/computer-systems/" + stale.getId())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(Objects.requireNonNull(objectMapper.writeValueAsString(stale))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + stale.getId() + "-v1\""))
+                .andExpect(jsonPath("$.version", is(1)));
+
+        // Second writer still holds version 0
+        stale.setDepartment("Finance");
+        mockMvc.perform(put("/api/v1/computer-systems/" + stale.getId())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(Objects.requireNonNull(objectMapper.writeValueAsString(stale))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.title", is("Concurrent Modification")));
+
+        mockMvc.perform(delete("/api/v1/computer-systems/" + stale.getId())
+                .header("If-Match", "\"" + stale.getId() + "-v0\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     void testDeleteComputerSystem() throws Exception {
         // Create
@@ -216,4 +311,28 @@ class ComputerSystemIntegrationIT {
         mockMvc.perform(get("/api/v1/computer-systems/" + createdDto.getId()))
                 .andExpect(status().isNotFound());
     }
+
+    private ComputerSystemDto exportSystem(String hostname, String department, int suffix) {
+        return ComputerSystemDto.builder()
+                .hostname(hostname)
+                .manufacturer("Dell")
+                .model("PowerEdge R750")
+                .userId(johnDoe.getId())
+                .department(department)
+                .macAddress(String.format("00:1A:2B:3C:4D:%02X", suffix))
+                .ipAddress("192.168.2." + suffix)
+                .networkName("PROD-NETWORK")
+                .build();
+    }
+
+    private Long createSystem(ComputerSystemDto dto) throws Exception {
+        String responseBody = mockMvc.perform(post("/api/v1/computer-systems")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(Objects.requireNonNull(objectMapper.writeValueAsString(dto))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readValue(responseBody, ComputerSystemDto.class).getId();
+    }
 }
@@ -0,0 +1,178 @@
+package com.demo.application.computersystem;
+
+import com.demo.application.security.auth.RoleRepository;
+import com.demo.application.user.UserRepository;
+import com.demo.domain.computersystem.ComputerSystem;
+import com.demo.domain.computersystem.HostnameGrams;
+import com.demo.domain.security.role.Role;
+import com.demo.domain.user.User;
+import com.demo.shared.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Schema verification for the hot computer system queries.
+ *
+ * Runs each query through the repository, captures the SQL Hibernate
+ * generated and asks H2 for its plan with EXPLAIN. The build fails if any
+ * of them resolves to a table scan, e.g. because an index was dropped or a
+ * query was rewritten in a form the planner cannot use an index for.
+ *
+ * Intentional full scans (export, unfiltered counts, substring searches
+ * shorter than a trigram) are not listed here.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.demo.application.computersystem.CapturingStatementInspector")
+@Import(JpaConfig.class)
+class ComputerSystemQueryPlanIT {
+
+    private static final String TABLE_SCAN = ".tableScan";
+
+    @Autowired
+    private ComputerSystemRepository repository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        Role role = roleRepository.save(Role.builder()
+            .name("MY_APP_USER")
+            .description("Test role")
+            .build());
+        owner = userRepository.save(User.builder()
+            .username("admin")
+            .email("admin@example.com")
+            .department("IT")
+            .role(role)
+            .build());
+
+        ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            ids.add(repository.save(ComputerSystem.builder()
+                .hostname("SYS-00" + i)
+                .ipAddress("10.0.0." + i)
+                .macAddress("00:1A:2B:3C:4D:0" + i)
+                .manufacturer("Dell")
+                .model("PowerEdge R750")
+                .systemUser(owner)
+                .createdBy(owner)
+                .department("IT")
+                .networkName("VLAN-001")
+                .build()).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testHotQueriesUseIndexes() {
+        Long userId = owner.getId();
+        PageRequest byId = PageRequest.of(0, 2, Sort.by("id"));
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findByHostname", () -> repository.findByHostname("SYS-001"));
+        queries.put("findByMacAddress", () -> repository.findByMacAddress("00:1A:2B:3C:4D:01"));
+        queries.put("findByIpAddress", () -> repository.findByIpAddress("10.0.0.1"));
+        queries.put("findUniqueKeyConflicts",
+            () -> repository.findUniqueKeyConflicts("SYS-001", "00:1A:2B:3C:4D:02", "10.0.0.3"));
+        queries.put("findUniqueKeyConflictsIn", () -> repository.findUniqueKeyConflictsIn(
+            List.of("SYS-001", "SYS-002"), List.of("00:1A:2B:3C:4D:03"), List.of("10.0.0.9")));
+        queries.put("findAllById", () -> repository.findAllById(ids));
+        queries.put("findExistingIds", () -> repository.findExistingIds(ids));
+        queries.put("deleteAllByIdIn", () -> repository.deleteAllByIdIn(List.of(-1L)));
+        queries.put("findDtoByHostname", () -> repository.findDtoByHostname("SYS-001"));
+        queries.put("findVersionById", () -> repository.findVersionById(ids.get(0)));
+        queries.put("findVersionByHostname", () -> repository.findVersionByHostname("SYS-001"));
+        queries.put("filter by department", () -> repository.findAllAsDto(
+            ComputerSystemSpecifications.matching(null, "IT", null), byId));
+        queries.put("filter by assigned user", () -> repository.findAllAsDto(
+            ComputerSystemSpecifications.matching(null, null, userId), byId));
+        queries.put("hostname contains", () -> repository.findAllAsDto(
+            ComputerSystemSpecifications.hostnameMatches("sys-0", HostnameGrams.Match.CONTAINS), byId));
+        queries.put("hostname prefix", () -> repository.findAllAsDto(
+            ComputerSystemSpecifications.hostnameMatches("sy", HostnameGrams.Match.PREFIX), byId));
+        queries.put("OWN scope (created by)", () -> repository.findAll(
+            (Specification<ComputerSystem>) (root, query, cb) ->
+                cb.equal(root.get("createdBy").get("id"), userId), byId));
+        queries.put("recently updated", () -> repository.findAllAsDto(Specification.unrestricted(),
+            PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "updatedAt", "id"))));
+        queries.put("cursor by department", () -> repository.findBy(
+            ComputerSystemSpecifications.matching(null, "IT", null),
+            q -> q.sortBy(Sort.by("id")).limit(2).scroll(ScrollPosition.keyset())));
+
+        List<String> failures = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            CapturingStatementInspector.clear();
+            query.run();
+            entityManager.clear();
+            for (String sql : CapturingStatementInspector.statements()) {
+                if (!isQuery(sql)) {
+                    continue;
+                }
+                String plan = explain(sql);
+                if (plan.contains(TABLE_SCAN)) {
+                    failures.add(name + ":\n" + plan);
+                }
+            }
+        });
+
+        assertTrue(failures.isEmpty(), "Queries resolved to a table scan:\n" + String.join("\n\n", failures));
+    }
+
+    private static boolean isQuery(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return statement.startsWith("select") || statement.startsWith("delete")
+                || statement.startsWith("update") || statement.startsWith("(");
+    }
+
+    /**
+     * Returns H2's plan for a captured statement, binding NULL to every
+     * parameter; H2 chooses indexes when preparing, not per value.
+     */
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setObject(i, null);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1));
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+}
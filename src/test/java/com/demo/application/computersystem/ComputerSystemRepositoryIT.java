@@ -3,8 +3,14 @@ package com.demo.application.computersystem;
 import com.demo.application.security.auth.RoleRepository;
 import com.demo.application.user.UserRepository;
 import com.demo.domain.computersystem.ComputerSystem;
+import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.domain.computersystem.HostnameGrams;
 import com.demo.domain.security.role.Role;
 import com.demo.domain.user.User;
+import com.demo.shared.security.AccessScope;
+import com.demo.shared.security.PermissionScope;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.demo.shared.config.JpaConfig;
@@ -13,6 +19,15 @@ import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -29,6 +44,9 @@ class ComputerSystemRepositoryIT {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private ComputerSystem testSystem;
     private User testUser;
 
@@ -127,6 +145,182 @@ class ComputerSystemRepositoryIT {
             .networkName("VLAN-001")
             .build();
         
-        assertThrows(Exception.class, () -> repository.save(duplicate));
+        // Sequence IDs defer the INSERT to flush, so force it to hit the constraint
+        assertThrows(Exception.class, () -> repository.saveAndFlush(duplicate));
+    }
+
+    @Test
+    void testStreamAllAsDtoInIdOrder() {
+        ComputerSystem first = repository.save(testSystem);
+        ComputerSystem second = repository.save(ComputerSystem.builder()
+            .hostname("TEST-SERVER-2")
+            .ipAddress("192.168.1.101")
+            .macAddress("00:1A:2B:3C:4D:5F")
+            .manufacturer("Dell")
+            .model("PowerEdge R750")
+            .systemUser(testUser)
+            .department("IT")
+            .networkName("VLAN-001")
+            .build());
+        repository.flush();
+
+        try (Stream<ComputerSystemDto> systems = repository.streamAllAsDto(Specification.unrestricted())) {
+            List<Long> ids = systems.map(ComputerSystemDto::getId).toList();
+            assertEquals(List.of(first.getId(), second.getId()), ids);
+        }
+
+        AccessScope otherDepartment = new AccessScope(Set.of(PermissionScope.DEPARTMENT), null, "HR");
+        try (Stream<ComputerSystemDto> systems =
+                     repository.streamAllAsDto(ComputerSystemSpecifications.withinScope(otherDepartment))) {
+            assertEquals(0, systems.count());
+        }
+    }
+
+    @Test
+    void testKeysetScrollByHostname() {
+        repository.save(testSystem);
+        repository.save(ComputerSystem.builder()
+            .hostname("A-SERVER")
+            .ipAddress("192.168.1.102")
+            .macAddress("00:1A:2B:3C:4D:60")
+            .manufacturer("Dell")
+            .model("PowerEdge R750")
+            .systemUser(testUser)
+            .department("IT")
+            .networkName("VLAN-001")
+            .build());
+        repository.flush();
+        Sort sort = Sort.by("hostname", "id");
+
+        Window<ComputerSystem> first = repository.findBy(Specification.unrestricted(),
+            query -> query.sortBy(sort).limit(1).scroll(ScrollPosition.keyset()));
+        assertEquals("A-SERVER", first.getContent().get(0).getHostname());
+        assertTrue(first.hasNext());
+
+        Window<ComputerSystem> second = repository.findBy(Specification.unrestricted(),
+            query -> query.sortBy(sort).limit(1).scroll(first.positionAt(0)));
+        assertEquals("TEST-SERVER", second.getContent().get(0).getHostname());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void testHostnameSearchContains() {
+        repository.save(testSystem);
+        repository.save(secondSystem("A-SERVER"));
+        repository.flush();
+
+        assertEquals(2, search("server", HostnameGrams.Match.CONTAINS).size());
+        assertEquals(List.of("TEST-SERVER"), hostnames(search("st-Se", HostnameGrams.Match.CONTAINS)));
+        // Shorter than a trigram: served by the LIKE fallback
+        assertEquals(List.of("A-SERVER"), hostnames(search("a-", HostnameGrams.Match.CONTAINS)));
+        // LIKE wildcards in the term are literal
+        assertTrue(search("%", HostnameGrams.Match.CONTAINS).isEmpty());
+    }
+
+    @Test
+    void testHostnameSearchPrefix() {
+        repository.save(testSystem);
+        repository.save(secondSystem("A-SERVER"));
+        repository.flush();
+
+        assertEquals(List.of("A-SERVER"), hostnames(search("a", HostnameGrams.Match.PREFIX)));
+        assertEquals(List.of("TEST-SERVER"), hostnames(search("test-", HostnameGrams.Match.PREFIX)));
+        assertTrue(search("server", HostnameGrams.Match.PREFIX).isEmpty());
+    }
+
+    @Test
+    void testHostnameGramsFollowRename() {
+        ComputerSystem saved = repository.saveAndFlush(testSystem);
+
+        saved.setHostname("WEB-01");
+        repository.flush();
+
+        assertEquals(List.of("WEB-01"), hostnames(search("web", HostnameGrams.Match.PREFIX)));
+        assertTrue(search("test", HostnameGrams.Match.CONTAINS).isEmpty());
+    }
+
+    @Test
+    void testFindAllAsDtoCreatesNoManagedEntities() {
+        repository.save(testSystem);
+        repository.save(secondSystem("A-SERVER"));
+        repository.flush();
+        entityManager.clear();
+
+        Page<ComputerSystemDto> page = repository.findAllAsDto(
+            ComputerSystemSpecifications.matching(null, "IT", null), PageRequest.of(0, 1, Sort.by("hostname")));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals("A-SERVER", page.getContent().get(0).getHostname());
+        assertEquals(testUser.getId(), page.getContent().get(0).getUserId());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void testWithinScopesFiltersInQuery() {
+        User colleague = userRepository.save(User.builder()
+            .username("colleague")
+            .email("colleague@example.com")
+            .department("HR")
+            .role(testUser.getRole())
+            .build());
+        testSystem.setCreatedBy(colleague);
+        repository.save(testSystem);
+        ComputerSystem hrSystem = secondSystem("HR-SERVER");
+        hrSystem.setDepartment("HR");
+        hrSystem.setCreatedBy(testUser);
+        repository.save(hrSystem);
+        repository.flush();
+        entityManager.clear();
+
+        // testUser is in IT and created HR-SERVER
+        assertEquals(List.of("HR-SERVER"), scoped(EnumSet.of(PermissionScope.OWN), testUser));
+        assertEquals(List.of("TEST-SERVER"), scoped(EnumSet.of(PermissionScope.DEPARTMENT), testUser));
+        assertEquals(List.of("HR-SERVER", "TEST-SERVER"),
+            scoped(EnumSet.of(PermissionScope.OWN, PermissionScope.DEPARTMENT), testUser));
+        assertEquals(List.of("HR-SERVER", "TEST-SERVER"), scoped(EnumSet.of(PermissionScope.ALL), testUser));
+        assertTrue(scoped(EnumSet.noneOf(PermissionScope.class), testUser).isEmpty());
+    }
+
+    @Test
+    void testFindDtoByHostname() {
+        ComputerSystem saved = repository.saveAndFlush(testSystem);
+        entityManager.clear();
+
+        ComputerSystemDto dto = repository.findDtoByHostname("TEST-SERVER").orElseThrow();
+
+        assertEquals(saved.getId(), dto.getId());
+        assertEquals("192.168.1.100", dto.getIpAddress());
+        assertEquals(testUser.getId(), dto.getUserId());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        assertTrue(repository.findDtoByHostname("MISSING").isEmpty());
+    }
+
+    private List<String> scoped(Set<PermissionScope> scopes, User user) {
+        return repository.findAllAsDto(ComputerSystemSpecifications.withinScope(
+                    new AccessScope(scopes, user.getId(), user.getDepartment())),
+                PageRequest.of(0, 10, Sort.by("hostname")))
+            .map(ComputerSystemDto::getHostname)
+            .getContent();
+    }
+
+    private List<ComputerSystem> search(String hostname, HostnameGrams.Match match) {
+        return repository.findAll(ComputerSystemSpecifications.hostnameMatches(hostname, match), Sort.by("hostname"));
+    }
+
+    private static List<String> hostnames(List<ComputerSystem> systems) {
+        return systems.stream().map(ComputerSystem::getHostname).toList();
+    }
+
+    private ComputerSystem secondSystem(String hostname) {
+        return ComputerSystem.builder()
+            .hostname(hostname)
+            .ipAddress("192.168.1.102")
+            .macAddress("00:1A:2B:3C:4D:60")
+            .manufacturer("Dell")
+            .model("PowerEdge R750")
+            .systemUser(testUser)
+            .department("IT")
+            .networkName("VLAN-001")
+            .build();
     }
 }
@@ -1,24 +1,39 @@
 package com.demo.application.computersystem;
 
 import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.domain.computersystem.ComputerSystemKeys;
 import com.demo.domain.computersystem.ComputerSystemMapper;
+import com.demo.domain.computersystem.ComputerSystemVersion;
+import com.demo.domain.computersystem.HostnameGrams;
 import com.demo.domain.user.User;
 import com.demo.application.user.UserRepository;
 import com.demo.shared.exception.DuplicateResourceException;
+import com.demo.shared.exception.PreconditionFailedException;
 import com.demo.shared.exception.ResourceNotFoundException;
+import com.demo.shared.security.AccessScope;
+import com.demo.shared.security.CurrentUserService;
+import com.demo.shared.security.PermissionScope;
 import com.demo.domain.computersystem.ComputerSystem;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +48,12 @@ class ComputerSystemServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ComputerSystemCache computerSystemCache;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
     private ComputerSystemMapper mapper;
 
     private ComputerSystemService service;
@@ -45,7 +66,7 @@ class ComputerSystemServiceTest {
     void setUp() throws Exception {
         Class<?> implClass = Class.forName(ComputerSystemMapper.class.getName() + "Impl");
         mapper = (ComputerSystemMapper) implClass.getDeclaredConstructor().newInstance();
-        service = new ComputerSystemService(repository, userRepository, mapper);
+        service = new ComputerSystemService(repository, userRepository, mapper, computerSystemCache, currentUserService);
 
         testUser = User.builder()
                 .id(1L)
@@ -81,29 +102,82 @@ class ComputerSystemServiceTest {
 
     @Test
     void testCreateComputerSystem_Success() {
-        when(repository.findByHostname(testDto.getHostname())).thenReturn(Optional.empty());
-        when(repository.findByMacAddress(testDto.getMacAddress())).thenReturn(Optional.empty());
-        when(repository.findByIpAddress(testDto.getIpAddress())).thenReturn(Optional.empty());
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(repository.save(any(ComputerSystem.class))).thenReturn(testComputerSystem);
+        when(repository.findUniqueKeyConflicts(testDto.getHostname(), testDto.getMacAddress(), testDto.getIpAddress()))
+                .thenReturn(Collections.emptyList());
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        when(repository.saveAndFlush(any(ComputerSystem.class))).thenReturn(testComputerSystem);
 
         ComputerSystemDto result = service.createComputerSystem(testDto);
 
         assertNotNull(result);
         assertEquals(testDto.getHostname(), result.getHostname());
         assertEquals(testDto.getManufacturer(), result.getManufacturer());
-        verify(repository, times(1)).save(any(ComputerSystem.class));
+        verify(repository, times(1)).saveAndFlush(any(ComputerSystem.class));
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void testCreateComputerSystem_RecordsCreator() {
+        when(repository.findUniqueKeyConflicts(any(), any(), any())).thenReturn(Collections.emptyList());
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        when(currentUserService.getCurrentUser()).thenReturn(Optional.of(testUser));
+        when(repository.saveAndFlush(any(ComputerSystem.class))).thenReturn(testComputerSystem);
+
+        service.createComputerSystem(testDto);
+
+        verify(repository).saveAndFlush(argThat(saved -> saved.getCreatedBy() == testUser));
     }
 
     @Test
     void testCreateComputerSystem_DuplicateHostname() {
-        when(repository.findByHostname(testDto.getHostname())).thenReturn(Optional.of(testComputerSystem));
+        when(repository.findUniqueKeyConflicts(any(), any(), any()))
+                .thenReturn(List.of(keys(5L, "SERVER-001", "AA:AA:AA:AA:AA:AA", "10.0.0.1")));
+
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class, () -> {
+            service.createComputerSystem(testDto);
+        });
+
+        assertEquals("Computer system with hostname SERVER-001 already exists", ex.getMessage());
+        verify(repository, never()).saveAndFlush(any(ComputerSystem.class));
+    }
+
+    @Test
+    void testCreateComputerSystem_DuplicateMacAddress() {
+        when(repository.findUniqueKeyConflicts(any(), any(), any()))
+                .thenReturn(List.of(keys(5L, "OTHER-HOST", "00:1A:2B:3C:4D:5E", "10.0.0.1")));
 
-        assertThrows(DuplicateResourceException.class, () -> {
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class, () -> {
             service.createComputerSystem(testDto);
         });
 
-        verify(repository, never()).save(any(ComputerSystem.class));
+        assertEquals("Computer system with MAC address 00:1A:2B:3C:4D:5E already exists", ex.getMessage());
+        verify(repository, never()).saveAndFlush(any(ComputerSystem.class));
+    }
+
+    @Test
+    void testCreateComputerSystem_ConcurrentDuplicateMappedFromConstraint() {
+        when(repository.findUniqueKeyConflicts(any(), any(), any())).thenReturn(Collections.emptyList());
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        when(repository.saveAndFlush(any(ComputerSystem.class)))
+                .thenThrow(constraintViolation(ComputerSystem.UK_IP_ADDRESS.toUpperCase()));
+
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class, () -> {
+            service.createComputerSystem(testDto);
+        });
+
+        assertEquals("Computer system with IP address 192.168.1.100 already exists", ex.getMessage());
+    }
+
+    @Test
+    void testCreateComputerSystem_UnknownUserMappedFromForeignKey() {
+        when(repository.findUniqueKeyConflicts(any(), any(), any())).thenReturn(Collections.emptyList());
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        when(repository.saveAndFlush(any(ComputerSystem.class)))
+                .thenThrow(constraintViolation(ComputerSystem.FK_SYSTEM_USER));
+
+        assertThrows(ResourceNotFoundException.class, () -> {
+            service.createComputerSystem(testDto);
+        });
     }
 
     @Test
@@ -129,28 +203,83 @@ class ComputerSystemServiceTest {
     @Test
     void testGetAllComputerSystems() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<ComputerSystem> page = new PageImpl<>(Arrays.asList(testComputerSystem), pageable, 1);
+        Page<ComputerSystemDto> page = new PageImpl<>(Arrays.asList(testDto), pageable, 1);
 
-        when(repository.findAll(pageable)).thenReturn(page);
+        when(repository.findAllAsDto(any(), eq(pageable))).thenReturn(page);
 
-        Page<ComputerSystemDto> result = service.getAllComputerSystems(pageable);
+        Page<ComputerSystemDto> result = service.getAllComputerSystems(AccessScope.UNRESTRICTED, pageable);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
-        assertEquals(testComputerSystem.getHostname(), result.getContent().get(0).getHostname());
+        assertEquals(testDto.getHostname(), result.getContent().get(0).getHostname());
+        verify(repository, never()).findAll(pageable);
+    }
+
+    @Test
+    void testFilterComputerSystems_WithinAccessScope() {
+        Pageable pageable = PageRequest.of(0, 10);
+        AccessScope access = new AccessScope(Set.of(PermissionScope.DEPARTMENT), testUser.getId(), "IT");
+        when(repository.findAllAsDto(any(), eq(pageable))).thenReturn(new PageImpl<>(List.of(testDto), pageable, 1));
+
+        Page<ComputerSystemDto> result = service.filterComputerSystems(
+                access, null, HostnameGrams.Match.CONTAINS, null, null, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        verify(repository).findAllAsDto(any(), eq(pageable));
+        verify(repository, never()).findAll(pageable);
     }
 
     @Test
     void testUpdateComputerSystem_Success() {
         when(repository.findById(1L)).thenReturn(Optional.of(testComputerSystem));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(repository.save(any(ComputerSystem.class))).thenReturn(testComputerSystem);
+        // The system's own keys are returned by the conflict query and must be ignored
+        when(repository.findUniqueKeyConflicts(any(), any(), any()))
+                .thenReturn(List.of(keys(1L, "SERVER-001", "00:1A:2B:3C:4D:5E", "192.168.1.100")));
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        when(repository.saveAndFlush(any(ComputerSystem.class))).thenReturn(testComputerSystem);
 
-        ComputerSystemDto result = service.updateComputerSystem(1L, testDto);
+        ComputerSystemDto result = service.updateComputerSystem(1L, testDto, null);
 
         assertNotNull(result);
         assertEquals(testDto.getHostname(), result.getHostname());
-        verify(repository, times(1)).save(any(ComputerSystem.class));
+        verify(repository, times(1)).saveAndFlush(any(ComputerSystem.class));
+        verify(computerSystemCache).evict(1L);
+    }
+
+    @Test
+    void testUpdateComputerSystem_IfMatchMismatch() {
+        testComputerSystem.setVersion(2L);
+        when(repository.findById(1L)).thenReturn(Optional.of(testComputerSystem));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> service.updateComputerSystem(1L, testDto, "\"1-v1\""));
+
+        verify(repository, never()).saveAndFlush(any(ComputerSystem.class));
+        verifyNoInteractions(computerSystemCache);
+    }
+
+    @Test
+    void testUpdateComputerSystem_StaleVersion() {
+        testComputerSystem.setVersion(2L);
+        testDto.setVersion(1L);
+        when(repository.findById(1L)).thenReturn(Optional.of(testComputerSystem));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> service.updateComputerSystem(1L, testDto, null));
+
+        verify(repository, never()).saveAndFlush(any(ComputerSystem.class));
+    }
+
+    @Test
+    void testDeleteComputerSystem_IfMatch() {
+        when(repository.findVersionById(1L)).thenReturn(Optional.of(version(1L, 2L)));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> service.deleteComputerSystem(1L, "\"1-v1\""));
+        verify(repository, never()).deleteById(any());
+
+        service.deleteComputerSystem(1L, "\"1-v2\"");
+        verify(repository).deleteById(1L);
     }
 
     @Test
@@ -158,9 +287,10 @@ class ComputerSystemServiceTest {
         when(repository.existsById(1L)).thenReturn(true);
         doNothing().when(repository).deleteById(1L);
 
-        service.deleteComputerSystem(1L);
+        service.deleteComputerSystem(1L, null);
 
         verify(repository, times(1)).deleteById(1L);
+        verify(computerSystemCache).evict(1L);
     }
 
     @Test
@@ -168,28 +298,52 @@ class ComputerSystemServiceTest {
         when(repository.existsById(99L)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, () -> {
-            service.deleteComputerSystem(99L);
+            service.deleteComputerSystem(99L, null);
         });
 
         verify(repository, never()).deleteById(any());
+        verifyNoInteractions(computerSystemCache);
     }
 
     @Test
     void testGetComputerSystemByHostname_Success() {
-        when(repository.findByHostname("SERVER-001")).thenReturn(Optional.of(testComputerSystem));
+        when(repository.findDtoByHostname("SERVER-001")).thenReturn(Optional.of(testDto));
 
         ComputerSystemDto result = service.getComputerSystemByHostname("SERVER-001");
 
         assertNotNull(result);
-        assertEquals(testComputerSystem.getHostname(), result.getHostname());
+        assertEquals(testDto.getHostname(), result.getHostname());
+        verify(repository, never()).findByHostname(any());
     }
 
     @Test
     void testGetComputerSystemByHostname_NotFound() {
-        when(repository.findByHostname("NONEXISTENT")).thenReturn(Optional.empty());
+        when(repository.findDtoByHostname("NONEXISTENT")).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> {
             service.getComputerSystemByHostname("NONEXISTENT");
         });
     }
+
+    private static ComputerSystemVersion version(Long id, Long version) {
+        return new ComputerSystemVersion() {
+            public Long getId() { return id; }
+            public LocalDateTime getUpdatedAt() { return LocalDateTime.of(2024, 1, 15, 10, 30); }
+            public Long getVersion() { return version; }
+        };
+    }
+
+    private static ComputerSystemKeys keys(Long id, String hostname, String macAddress, String ipAddress) {
+        return new ComputerSystemKeys() {
+            public Long getId() { return id; }
+            public String getHostname() { return hostname; }
+            public String getMacAddress() { return macAddress; }
+            public String getIpAddress() { return ipAddress; }
+        };
+    }
+
+    private static DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("constraint violated", new SQLException("23505"), constraintName));
+    }
 }
@@ -0,0 +1,154 @@
+package com.demo.application.computersystem;
+
+import com.demo.application.security.auth.RoleRepository;
+import com.demo.application.user.UserRepository;
+import com.demo.domain.computersystem.ComputerSystem;
+import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.domain.computersystem.HostnameGrams;
+import com.demo.domain.security.role.Role;
+import com.demo.domain.user.User;
+import com.demo.shared.security.AccessScope;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the number of SQL statements each computer system service method
+ * issues, so n+1 regressions (e.g. an association switched back to EAGER,
+ * or a mapper reading a lazy user attribute) fail the build.
+ *
+ * Every system is assigned to a different user, so any per-row user or role
+ * load shows up as extra statements. Counts come from Hibernate statistics
+ * and include the flush; the persistence context is cleared before each call.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ComputerSystemStatementCountIT {
+
+    private static final int SYSTEMS = 3;
+
+    @Autowired
+    private ComputerSystemService service;
+
+    @Autowired
+    private ComputerSystemExportService exportService;
+
+    @Autowired
+    private ComputerSystemRepository repository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private final List<ComputerSystem> systems = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+
+        Role role = roleRepository.findByName("MY_APP_USER")
+                .orElseGet(() -> roleRepository.save(Role.builder()
+                        .name("MY_APP_USER")
+                        .description("Test role")
+                        .build()));
+
+        for (int i = 1; i <= SYSTEMS; i++) {
+            User user = userRepository.save(User.builder()
+                    .username("stmt.user" + i)
+                    .email("stmt.user" + i + "@example.com")
+                    .department("IT")
+                    .role(role)
+                    .build());
+            systems.add(repository.save(ComputerSystem.builder()
+                    .hostname("STMT-00" + i)
+                    .manufacturer("Dell")
+                    .model("PowerEdge R750")
+                    .systemUser(user)
+                    .createdBy(user)
+                    .department("STMT")
+                    .macAddress("00:5A:2B:3C:4D:0" + i)
+                    .ipAddress("10.9.0." + i)
+                    .networkName("VLAN-001")
+                    .build()));
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void testReadPaths() {
+        Long id = systems.get(0).getId();
+
+        assertStatements(1, "getComputerSystemById", () -> service.getComputerSystemById(id));
+        assertStatements(1, "getComputerSystemByHostname", () -> service.getComputerSystemByHostname("STMT-001"));
+        // Page smaller than requested: no count query
+        assertStatements(1, "getAllComputerSystems", () -> service.getAllComputerSystems(
+                AccessScope.UNRESTRICTED, PageRequest.of(0, 100)));
+        // Full page: content plus count
+        assertStatements(2, "filterComputerSystems", () -> service.filterComputerSystems(
+                AccessScope.UNRESTRICTED, null, HostnameGrams.Match.CONTAINS, "STMT", null, PageRequest.of(0, 2)));
+        assertStatements(1, "scrollComputerSystems", () -> service.scrollComputerSystems(
+                AccessScope.UNRESTRICTED, null, "STMT", null, Sort.Order.asc("hostname"), SYSTEMS, null));
+        assertStatements(1, "export", () -> export());
+    }
+
+    @Test
+    void testWritePaths() {
+        ComputerSystem target = systems.get(0);
+        ComputerSystemDto update = ComputerSystemDto.builder()
+                .hostname(target.getHostname())
+                .manufacturer("HP")
+                .model(target.getModel())
+                .userId(target.getSystemUser().getId())
+                .department(target.getDepartment())
+                .macAddress(target.getMacAddress())
+                .ipAddress(target.getIpAddress())
+                .networkName(target.getNetworkName())
+                .build();
+
+        // Load, uniqueness check, UPDATE; the unchanged hostname leaves the gram rows alone
+        assertStatements(3, "updateComputerSystem", () -> service.updateComputerSystem(target.getId(), update, null));
+        // Existence check, load, gram rows DELETE, system DELETE
+        assertStatements(4, "deleteComputerSystem", () -> service.deleteComputerSystem(systems.get(1).getId(), null));
+    }
+
+    private void assertStatements(long expected, String call, Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+
+        action.run();
+        entityManager.flush();
+
+        assertEquals(expected, statistics.getPrepareStatementCount(),
+                () -> call + " issued an unexpected number of statements");
+    }
+
+    private void export() {
+        try {
+            exportService.export(new ByteArrayOutputStream(), ComputerSystemExportService.ExportFormat.NDJSON,
+                    AccessScope.UNRESTRICTED);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.demo.application.security;
+
+import com.demo.application.security.token.ApiToken;
+import com.demo.application.security.token.ApiTokenRepository;
+import com.demo.application.security.token.ApiTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApiTokenServiceTest {
+
+    private static final String TOKEN_ID = "3f1c2a9e-token";
+    private static final String SECRET = "s3cr3t";
+
+    @Mock
+    private ApiTokenRepository repo;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private ApiTokenService service;
+
+    private ApiToken token;
+
+    @BeforeEach
+    void setUp() {
+        service = new ApiTokenService(repo, passwordEncoder, Duration.ofMinutes(5), 100);
+
+        token = new ApiToken();
+        token.setTokenId(TOKEN_ID);
+        token.setTokenHash("bcrypt-hash");
+        token.setOwnerUserId(7L);
+        token.setExpiresAt(LocalDateTime.now().plusDays(1));
+        token.setRevoked(false);
+    }
+
+    @Test
+    void testAuthenticate_RepeatedTokenSkipsBcrypt() {
+        when(repo.findByTokenId(TOKEN_ID)).thenReturn(Optional.of(token));
+        when(passwordEncoder.matches(SECRET, "bcrypt-hash")).thenReturn(true);
+
+        assertEquals(Optional.of(7L), service.authenticate(TOKEN_ID + "." + SECRET));
+        assertEquals(Optional.of(7L), service.authenticate(TOKEN_ID + "." + SECRET));
+
+        verify(repo, times(1)).findByTokenId(TOKEN_ID);
+        verify(passwordEncoder, times(1)).matches(SECRET, "bcrypt-hash");
+    }
+
+    @Test
+    void testAuthenticate_WrongSecretRejectedAfterCaching() {
+        when(repo.findByTokenId(TOKEN_ID)).thenReturn(Optional.of(token));
+        when(passwordEncoder.matches(SECRET, "bcrypt-hash")).thenReturn(true);
+        service.authenticate(TOKEN_ID + "." + SECRET);
+
+        assertTrue(service.authenticate(TOKEN_ID + ".guess").isEmpty());
+        // A digest mismatch falls back to the full check rather than being trusted
+        verify(passwordEncoder).matches("guess", "bcrypt-hash");
+    }
+
+    @Test
+    void testAuthenticate_RevokedTokenRejected() {
+        token.setRevoked(true);
+        when(repo.findByTokenId(TOKEN_ID)).thenReturn(Optional.of(token));
+
+        assertTrue(service.authenticate(TOKEN_ID + "." + SECRET).isEmpty());
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    @Test
+    void testAuthenticate_ExpiredTokenRejected() {
+        token.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        when(repo.findByTokenId(TOKEN_ID)).thenReturn(Optional.of(token));
+
+        assertTrue(service.authenticate(TOKEN_ID + "." + SECRET).isEmpty());
+    }
+
+    @Test
+    void testAuthenticate_MalformedTokenRejected() {
+        assertTrue(service.authenticate("no-separator").isEmpty());
+        assertTrue(service.authenticate(TOKEN_ID + ".").isEmpty());
+        verifyNoInteractions(repo, passwordEncoder);
+    }
+
+    @Test
+    void testRevoke_InvalidatesCachedVerification() {
+        when(repo.findByTokenId(TOKEN_ID)).thenReturn(Optional.of(token));
+        when(passwordEncoder.matches(SECRET, "bcrypt-hash")).thenReturn(true);
+        service.authenticate(TOKEN_ID + "." + SECRET);
+
+        service.revoke(TOKEN_ID);
+
+        assertTrue(token.isRevoked());
+        verify(repo).save(token);
+        assertTrue(service.authenticate(TOKEN_ID + "." + SECRET).isEmpty());
+    }
+}
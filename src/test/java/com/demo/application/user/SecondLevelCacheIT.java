@@ -0,0 +1,114 @@
+package com.demo.application.user;
+
+import com.demo.application.security.auth.RoleRepository;
+import com.demo.domain.security.role.Role;
+import com.demo.domain.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Second-level and query cache behaviour for users and roles.
+ *
+ * Not transactional: each repository call runs in its own session, as
+ * separate requests would, so cache hits are observable. The test user is
+ * committed and removed after each test.
+ */
+@SpringBootTest
+class SecondLevelCacheIT {
+
+    private static final String USERNAME = "cache.user";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Role role = roleRepository.findByName("MY_APP_USER").orElseThrow();
+        user = userRepository.save(User.builder()
+                .username(USERNAME)
+                .email("cache.user@example.com")
+                .department("IT")
+                .role(role)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void testFindByIdServedFromCache() {
+        userRepository.findById(user.getId());
+        statistics.clear();
+
+        User cached = userRepository.findById(user.getId()).orElseThrow();
+
+        assertEquals(USERNAME, cached.getUsername());
+        assertEquals("MY_APP_USER", cached.getRole().getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getCacheRegionStatistics(User.CACHE_REGION).getHitCount() > 0);
+        assertTrue(statistics.getCacheRegionStatistics(Role.CACHE_REGION).getHitCount() > 0);
+    }
+
+    @Test
+    void testFindByUsernameServedFromQueryCache() {
+        userRepository.findByUsername(USERNAME);
+        statistics.clear();
+
+        assertTrue(userRepository.findByUsername(USERNAME).isPresent());
+        assertTrue(roleRepository.findByName("MY_APP_USER").isPresent());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void testUserWriteInvalidatesQueryCache() {
+        userRepository.findByUsername(USERNAME);
+        user.setEmail("changed@example.com");
+        user = userRepository.save(user);
+        statistics.clear();
+
+        User reloaded = userRepository.findByUsername(USERNAME).orElseThrow();
+
+        assertEquals("changed@example.com", reloaded.getEmail());
+        assertEquals(1, statistics.getQueryCacheMissCount());
+    }
+
+    @Test
+    void testCacheMetricsPublished() {
+        userRepository.findById(user.getId());
+        userRepository.findById(user.getId());
+
+        double hits = meterRegistry.get("app.cache.l2.requests")
+                .tags("region", User.CACHE_REGION, "result", "hit")
+                .functionCounter()
+                .count();
+
+        assertTrue(hits > 0);
+        assertNotNull(meterRegistry.find("app.cache.query.requests").tag("result", "miss").functionCounter());
+    }
+}
@@ -0,0 +1,49 @@
+package com.demo.shared.pagination;
+
+import com.demo.shared.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    private static final Sort.Order BY_HOSTNAME = Sort.Order.asc("hostname");
+
+    @Test
+    void testRoundTrip() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("hostname", "SERVER,001");
+        keys.put("id", 41L);
+
+        String cursor = KeysetCursor.encode(BY_HOSTNAME, ScrollPosition.forward(keys));
+        KeysetScrollPosition position = KeysetCursor.decode(cursor, BY_HOSTNAME);
+
+        assertEquals(keys, position.getKeys());
+        assertFalse(cursor.contains("SERVER"), "Cursor should be opaque");
+    }
+
+    @Test
+    void testNullCursorStartsAtBeginning() {
+        assertTrue(KeysetCursor.decode(null, BY_HOSTNAME).isInitial());
+    }
+
+    @Test
+    void testCursorForDifferentSortRejected() {
+        String cursor = KeysetCursor.encode(BY_HOSTNAME,
+                ScrollPosition.forward(Map.of("hostname", "SERVER-001", "id", 1L)));
+
+        assertThrows(InvalidRequestException.class,
+                () -> KeysetCursor.decode(cursor, Sort.Order.desc("hostname")));
+    }
+
+    @Test
+    void testMalformedCursorRejected() {
+        assertThrows(InvalidRequestException.class, () -> KeysetCursor.decode("not a cursor!", BY_HOSTNAME));
+    }
+}
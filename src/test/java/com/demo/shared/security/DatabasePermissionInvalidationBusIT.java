@@ -0,0 +1,118 @@
+package com.demo.shared.security;
+
+import com.demo.application.security.auth.PermissionRepository;
+import com.demo.application.security.auth.PermissionVersionRepository;
+import com.demo.application.security.auth.RoleManagementService;
+import com.demo.application.security.auth.RolePermissionRepository;
+import com.demo.application.security.auth.RoleRepository;
+import com.demo.domain.security.permission.PermissionDto;
+import com.demo.domain.security.role.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Permission changes made through the admin API reach a second instance
+ * sharing the H2 database.
+ *
+ * The second instance is a RolePermissionService wired to its own
+ * DatabasePermissionInvalidationBus, polled by hand instead of on a timer.
+ * Not transactional: the version stamps must be committed to be seen.
+ */
+@SpringBootTest(properties = "app_config.auth.permission-invalidation.bus=database")
+class DatabasePermissionInvalidationBusIT {
+
+    private static final String RESOURCE_TYPE = "InvalidationProbe";
+
+    @Autowired
+    private RoleManagementService roleManagementService;
+
+    @Autowired
+    private RolePermissionService rolePermissionService;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PermissionRepository permissionRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private PermissionVersionRepository permissionVersionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testChangeReachesOtherInstanceOnPoll() {
+        DatabasePermissionInvalidationBus otherBus =
+                new DatabasePermissionInvalidationBus(permissionVersionRepository, Duration.ofHours(1));
+        otherBus.readInitialVersions();
+        RolePermissionService otherInstance = new RolePermissionService(roleRepository, permissionRepository,
+                rolePermissionRepository, objectMapper, otherBus);
+        otherInstance.subscribeToInvalidations();
+        assertFalse(otherInstance.hasPermission("MY_APP_USER", RESOURCE_TYPE, "READ", PermissionScope.OWN));
+
+        Role user = roleRepository.findByName("MY_APP_USER").orElseThrow();
+        PermissionDto probe = roleManagementService.createPermission(
+                new PermissionDto(null, RESOURCE_TYPE, "READ", "OWN", null));
+        roleManagementService.assignPermissionToRole(user.getId(), probe.getId());
+
+        // The publishing instance reloads on commit, the other one on its next poll
+        assertTrue(rolePermissionService.hasPermission("MY_APP_USER", RESOURCE_TYPE, "READ", PermissionScope.OWN));
+        assertFalse(otherInstance.hasPermission("MY_APP_USER", RESOURCE_TYPE, "READ", PermissionScope.OWN));
+        otherBus.poll();
+        assertTrue(otherInstance.hasPermission("MY_APP_USER", RESOURCE_TYPE, "READ", PermissionScope.OWN));
+
+        roleManagementService.deletePermission(probe.getId());
+        otherBus.poll();
+        assertFalse(otherInstance.hasPermission("MY_APP_USER", RESOURCE_TYPE, "READ", PermissionScope.OWN));
+        assertFalse(rolePermissionService.hasPermission("MY_APP_USER", RESOURCE_TYPE, "READ", PermissionScope.OWN));
+    }
+
+    @Test
+    void testRefreshReadsRowsBehindWarmSecondLevelCache() {
+        Role user = roleRepository.findByName("MY_APP_USER").orElseThrow();
+        PermissionDto probe = roleManagementService.createPermission(
+                new PermissionDto(null, RESOURCE_TYPE, "READ", "OWN", null));
+        roleManagementService.assignPermissionToRole(user.getId(), probe.getId());
+        // Loads the permission into this instance's second-level cache
+        permissionRepository.findById(probe.getId()).orElseThrow();
+        assertFalse(rolePermissionService.hasPermission("MY_APP_USER", RESOURCE_TYPE, "READ", PermissionScope.ALL));
+
+        // Another instance changes the row; only the invalidation reaches this one
+        jdbcTemplate.update("UPDATE permissions SET scope = 'ALL' WHERE id = ?", probe.getId());
+        rolePermissionService.refresh(PermissionInvalidation.ofRoles("MY_APP_USER"));
+
+        assertEquals(Set.of(PermissionScope.ALL),
+                rolePermissionService.getGrantedScopes("MY_APP_USER", RESOURCE_TYPE, "READ"));
+
+        roleManagementService.deletePermission(probe.getId());
+    }
+
+    @Test
+    void testFullReloadRequestReachesOtherInstance() {
+        DatabasePermissionInvalidationBus otherBus =
+                new DatabasePermissionInvalidationBus(permissionVersionRepository, Duration.ofHours(1));
+        otherBus.readInitialVersions();
+        PermissionInvalidation[] received = new PermissionInvalidation[1];
+        otherBus.subscribe(invalidation -> received[0] = invalidation);
+
+        roleManagementService.reloadPermissionsCache();
+        otherBus.poll();
+
+        assertEquals(PermissionInvalidation.all(), received[0]);
+    }
+}
@@ -0,0 +1,101 @@
+package com.demo.shared.security;
+
+import com.demo.domain.computersystem.ComputerSystemDto;
+import com.demo.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FieldPermissionFilterServiceTest {
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FieldPermissionFilterService service;
+
+    private final User user = new User();
+
+    private final FieldMask hideMac = FieldMask.of(Map.of("macAddress", 0, "hostname", 1),
+            Map.of("macAddress", "HIDDEN", "hostname", "READ"));
+
+    @BeforeEach
+    void setUp() {
+        service = new FieldPermissionFilterService(authorizationService, new FieldPermissionsConfig(), objectMapper);
+    }
+
+    @Test
+    void testReadableFieldsWriter_OmitsHiddenFields() {
+        when(authorizationService.getReadFieldMask(user, "ComputerSystem")).thenReturn(hideMac);
+
+        JsonNode json = objectMapper.readTree(service.readableFieldsWriter(user, "ComputerSystem")
+                .writeValueAsString(List.of(dto(1), dto(2))));
+
+        assertEquals(2, json.size());
+        assertFalse(json.get(0).has("macAddress"));
+        assertEquals("SERVER-001", json.get(0).get("hostname").asString());
+        assertEquals("IT", json.get(1).get("department").asString());
+    }
+
+    @Test
+    void testReadableFieldsWriter_CachedPerMask() {
+        when(authorizationService.getReadFieldMask(user, "ComputerSystem"))
+                .thenReturn(hideMac, hideMac, FieldMask.UNRESTRICTED);
+
+        ObjectWriter first = service.readableFieldsWriter(user, "ComputerSystem");
+
+        assertSame(first, service.readableFieldsWriter(user, "ComputerSystem"));
+        ObjectWriter unrestricted = service.readableFieldsWriter(user, "ComputerSystem");
+        assertNotSame(first, unrestricted);
+        assertTrue(objectMapper.readTree(unrestricted.writeValueAsString(dto(1))).has("macAddress"));
+    }
+
+    @Test
+    void testReadableFieldsWriter_ReusedForRebuiltMask() {
+        // A permission reload builds a new mask instance with the same contents
+        FieldMask reloaded = FieldMask.of(Map.of("macAddress", 0, "hostname", 1),
+                Map.of("macAddress", "HIDDEN", "hostname", "READ"));
+        when(authorizationService.getReadFieldMask(user, "ComputerSystem")).thenReturn(hideMac, reloaded);
+
+        ObjectWriter first = service.readableFieldsWriter(user, "ComputerSystem");
+
+        assertSame(first, service.readableFieldsWriter(user, "ComputerSystem"));
+    }
+
+    @Test
+    void testFilterReadableFields_MatchesWriter() {
+        when(authorizationService.getReadFieldMask(user, "ComputerSystem")).thenReturn(hideMac);
+
+        Map<String, Object> filtered = service.filterReadableFields(user, dto(1), "ComputerSystem");
+
+        assertFalse(filtered.containsKey("macAddress"));
+        assertEquals("SERVER-001", filtered.get("hostname"));
+    }
+
+    private static ComputerSystemDto dto(int n) {
+        return ComputerSystemDto.builder()
+                .id((long) n)
+                .hostname(String.format("SERVER-%03d", n))
+                .manufacturer("Dell")
+                .model("PowerEdge R750")
+                .userId(1L)
+                .department("IT")
+                .macAddress(String.format("00:1A:2B:3C:4D:%02X", n))
+                .ipAddress("192.168.1." + n)
+                .networkName("PROD")
+                .build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.demo.shared.security;
+
+import com.demo.application.security.auth.PermissionRepository;
+import com.demo.application.security.auth.RolePermissionRepository;
+import com.demo.application.security.auth.RoleRepository;
+import com.demo.domain.security.permission.Permission;
+import com.demo.domain.security.role.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RolePermissionServiceTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private PermissionRepository permissionRepository;
+
+    @Mock
+    private RolePermissionRepository rolePermissionRepository;
+
+    private LocalPermissionInvalidationBus invalidationBus;
+
+    private RolePermissionService service;
+
+    private Role admin;
+
+    private Role user;
+
+    @BeforeEach
+    void setUp() {
+        invalidationBus = new LocalPermissionInvalidationBus();
+        service = new RolePermissionService(roleRepository, permissionRepository, rolePermissionRepository,
+                new ObjectMapper(), invalidationBus);
+        service.subscribeToInvalidations();
+        admin = Role.builder().name("MY_APP_ADMIN").build();
+        user = Role.builder().name("MY_APP_USER").build();
+        when(roleRepository.findAll()).thenReturn(List.of(admin, user));
+        when(rolePermissionRepository.findPermissionsByRole(admin)).thenReturn(List.of(
+                permission("READ", "ALL"),
+                permission("UPDATE", "DEPARTMENT")));
+        when(rolePermissionRepository.findPermissionsByRole(user)).thenReturn(List.of(
+                permission("READ", "OWN"),
+                permission("DELETE", "CUSTOM")));
+    }
+
+    @Test
+    void testHasPermission_ScopeMatching() {
+        // ALL implies every scope
+        assertTrue(service.hasPermission("MY_APP_ADMIN", "ComputerSystem", "READ", PermissionScope.OWN));
+        assertTrue(service.hasPermission("MY_APP_ADMIN", "ComputerSystem", "UPDATE", PermissionScope.DEPARTMENT));
+        assertFalse(service.hasPermission("MY_APP_ADMIN", "ComputerSystem", "UPDATE", PermissionScope.ALL));
+        assertTrue(service.hasPermission("MY_APP_USER", "ComputerSystem", "READ", PermissionScope.OWN));
+        assertFalse(service.hasPermission("MY_APP_USER", "ComputerSystem", "READ", PermissionScope.DEPARTMENT));
+        assertEquals(EnumSet.of(PermissionScope.DEPARTMENT),
+                service.getGrantedScopes("MY_APP_ADMIN", "ComputerSystem", "UPDATE"));
+        assertTrue(service.getGrantedScopes("MY_APP_USER", "ComputerSystem", "UPDATE").isEmpty());
+    }
+
+    @Test
+    void testHasPermission_UnknownKeysDenied() {
+        assertFalse(service.hasPermission("MY_APP_GUEST", "ComputerSystem", "READ", PermissionScope.OWN));
+        assertFalse(service.hasPermission("MY_APP_ADMIN", "User", "READ", PermissionScope.OWN));
+        assertFalse(service.hasPermission("MY_APP_ADMIN", "ComputerSystem", "EXPORT", PermissionScope.OWN));
+        // Permissions with an unknown scope grant nothing
+        assertFalse(service.hasPermission("MY_APP_USER", "ComputerSystem", "DELETE", "CUSTOM"));
+        assertTrue(service.hasPermission("MY_APP_ADMIN", "ComputerSystem", "READ", "CUSTOM"));
+    }
+
+    @Test
+    void testIndexBuiltOnceUntilReload() {
+        service.hasPermission("MY_APP_ADMIN", "ComputerSystem", "READ", PermissionScope.ALL);
+        service.hasPermission("MY_APP_USER", "ComputerSystem", "READ", PermissionScope.OWN);
+        assertEquals(2, service.getPermissionsForRole("MY_APP_USER").size());
+        verify(roleRepository, times(1)).findAll();
+
+        when(rolePermissionRepository.findPermissionsByRole(user)).thenReturn(List.of(permission("READ", "ALL")));
+        service.reloadCache();
+
+        verify(roleRepository, times(2)).findAll();
+        assertTrue(service.hasPermission("MY_APP_USER", "ComputerSystem", "READ", PermissionScope.DEPARTMENT));
+    }
+
+    @Test
+    void testInvalidation_ReloadsOnlyAffectedRoles() {
+        assertFalse(service.hasPermission("MY_APP_USER", "ComputerSystem", "DELETE", PermissionScope.OWN));
+        when(rolePermissionRepository.findPermissionsByRoleName("MY_APP_USER"))
+                .thenReturn(List.of(permission("READ", "OWN"), permission("DELETE", "OWN")));
+        when(rolePermissionRepository.findPermissionsByRoleName("MY_APP_GUEST")).thenReturn(List.of());
+
+        invalidationBus.publish(PermissionInvalidation.ofRoles("MY_APP_USER", "MY_APP_GUEST"));
+
+        assertTrue(service.hasPermission("MY_APP_USER", "ComputerSystem", "DELETE", PermissionScope.OWN));
+        assertTrue(service.hasPermission("MY_APP_ADMIN", "ComputerSystem", "UPDATE", PermissionScope.DEPARTMENT));
+        assertTrue(service.getPermissionsForRole("MY_APP_GUEST").isEmpty());
+        // Other roles are not read again
+        verify(roleRepository, times(1)).findAll();
+        verify(rolePermissionRepository, times(1)).findPermissionsByRole(admin);
+
+        // A role removed in the database disappears from the index
+        when(rolePermissionRepository.findPermissionsByRoleName("MY_APP_USER")).thenReturn(List.of());
+        invalidationBus.publish(PermissionInvalidation.ofRoles("MY_APP_USER"));
+        assertFalse(service.hasPermission("MY_APP_USER", "ComputerSystem", "READ", PermissionScope.OWN));
+
+        invalidationBus.publish(PermissionInvalidation.all());
+        verify(roleRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testFieldMask_ParsedOnceAtLoad() {
+        Permission read = permission("READ", "ALL");
+        read.setFieldPermissions("{\"macAddress\":\"HIDDEN\",\"hostname\":\"READ\"}");
+        Permission write = permission("WRITE", "ALL");
+        write.setFieldPermissions("{\"hostname\":\"READ\",\"department\":\"WRITE\"}");
+        Permission broken = permission("WRITE", "ALL");
+        broken.setFieldPermissions("{not json");
+        when(rolePermissionRepository.findPermissionsByRole(admin)).thenReturn(List.of(read, broken, write));
+
+        FieldMask readMask = service.getFieldMask("MY_APP_ADMIN", "ComputerSystem", "READ");
+        FieldMask writeMask = service.getFieldMask("MY_APP_ADMIN", "ComputerSystem", "WRITE");
+
+        assertSame(readMask, service.getFieldMask("MY_APP_ADMIN", "ComputerSystem", "READ"));
+        assertFalse(readMask.canRead("macAddress"));
+        assertTrue(readMask.canRead("hostname"));
+        assertTrue(readMask.canRead("model"));
+        // Unparseable JSON is skipped; the next matching permission applies
+        assertFalse(writeMask.canWrite("hostname"));
+        assertTrue(writeMask.canWrite("department"));
+        assertTrue(writeMask.canWrite("model"));
+        assertEquals("HIDDEN", service.getFieldPermissions("MY_APP_ADMIN", "ComputerSystem", "READ").get("macAddress"));
+        assertSame(FieldMask.UNRESTRICTED, service.getFieldMask("MY_APP_USER", "ComputerSystem", "READ"));
+    }
+
+    private static Permission permission(String operation, String scope) {
+        return Permission.builder()
+                .resourceType("ComputerSystem")
+                .operation(operation)
+                .scope(scope)
+                .build();
+    }
+}